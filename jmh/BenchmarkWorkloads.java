@@ -0,0 +1,427 @@
+import benchmarks.Workload;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * CSE 216 HW3
+ * Nicholas Stamatakis
+ * ID: 114140995
+ * R04
+ *
+ * Contains the hot paths measured by the benchmarks in jmh/benchmarks, one nested class per workload
+ *
+ */
+
+public class BenchmarkWorkloads {
+    private static Set<Integer> domainOf(int n) {
+        return IntStream.rangeClosed(1, n).boxed().collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static long factorial(int n) {
+        long f = 1;
+        for (int i = 2; i <= n; i++) {
+            f *= i;
+        }
+        return f;
+    }
+
+    /**
+     * Common setup of the bijection group workloads: a domain, its group and one element of middling rank.
+     */
+    private abstract static class GroupWorkload implements Workload {
+        Integer[] elements;
+        Group<Function<Integer, Integer>> group;
+        Function<Integer, Integer> f;
+
+        @Override
+        public void setUp(int size) {
+            Set<Integer> domain = domainOf(size);
+            elements = domain.toArray(new Integer[0]);
+            group = BijectionGroup.bijectionGroup(domain);
+            f = BijectionGroup.nthBijection(domain, factorial(size) / 3);
+        }
+
+        Object applyAll(Function<Integer, Integer> h) {
+            Integer last = null;
+            for (Integer x : elements) {
+                last = h.apply(x);
+            }
+            return last;
+        }
+    }
+
+    public static class BijectionsOf implements Workload {
+        private Set<Integer> domain;
+
+        @Override
+        public void setUp(int size) {
+            domain = domainOf(size);
+        }
+
+        @Override
+        public Object run() {
+            return BijectionGroup.bijectionsOf(domain);
+        }
+    }
+
+    public static class BijectionStream implements Workload {
+        private Set<Integer> domain;
+
+        @Override
+        public void setUp(int size) {
+            domain = domainOf(size);
+        }
+
+        @Override
+        public Object run() {
+            return BijectionGroup.bijectionStream(domain).count();
+        }
+    }
+
+    public static class FindNthBijection implements Workload {
+        private Set<Integer> domain;
+        private Set<Function<Integer, Integer>> bijections;
+
+        @Override
+        public void setUp(int size) {
+            domain = domainOf(size);
+            bijections = BijectionGroup.bijectionsOf(domain);
+        }
+
+        @Override
+        public Object run() {
+            return BijectionGroup.findNthBijection(bijections.size() / 2, domain, bijections);
+        }
+    }
+
+    public static class NthBijection implements Workload {
+        private Set<Integer> domain;
+        private long rank;
+
+        @Override
+        public void setUp(int size) {
+            domain = domainOf(size);
+            rank = factorial(size) / 2;
+        }
+
+        @Override
+        public Object run() {
+            return BijectionGroup.nthBijection(domain, rank);
+        }
+    }
+
+    public static class InverseOf extends GroupWorkload {
+        @Override
+        public Object run() {
+            return group.inverseOf(f);
+        }
+    }
+
+    public static class InverseApply extends GroupWorkload {
+        private Function<Integer, Integer> inverse;
+
+        @Override
+        public void setUp(int size) {
+            super.setUp(size);
+            inverse = group.inverseOf(f);
+        }
+
+        @Override
+        public Object run() {
+            return applyAll(inverse);
+        }
+    }
+
+    public static class BinaryOperation extends GroupWorkload {
+        @Override
+        public Object run() {
+            return group.binaryOperation(f, f);
+        }
+    }
+
+    public static class CachedBinaryOperation extends GroupWorkload {
+        private Group<Function<Integer, Integer>> cached;
+
+        @Override
+        public void setUp(int size) {
+            super.setUp(size);
+            cached = CachedGroup.ofBijections(domainOf(size), 720, 1024);
+            // a product read from the table is one of its canonical elements, so later lookups find it directly
+            f = cached.binaryOperation(f, cached.identity());
+        }
+
+        @Override
+        public Object run() {
+            return cached.binaryOperation(f, f);
+        }
+    }
+
+    public static class ComposeApply extends GroupWorkload {
+        private Function<Integer, Integer> product;
+
+        @Override
+        public void setUp(int size) {
+            super.setUp(size);
+            product = group.identity();
+            for (int i = 0; i < 64; i++) {
+                product = group.binaryOperation(f, product);
+            }
+        }
+
+        @Override
+        public Object run() {
+            return applyAll(product);
+        }
+    }
+
+    public static class Exponent extends GroupWorkload {
+        @Override
+        public Object run() {
+            return group.exponent(f, 1_000_003);
+        }
+    }
+
+    public static class ExponentBySquaring extends GroupWorkload {
+        private Group<Function<Integer, Integer>> plain;
+
+        @Override
+        public void setUp(int size) {
+            super.setUp(size);
+            plain = new Group<Function<Integer, Integer>>() {
+                @Override
+                public Function<Integer, Integer> binaryOperation(Function<Integer, Integer> one,
+                                                                  Function<Integer, Integer> other) {
+                    return group.binaryOperation(one, other);
+                }
+
+                @Override
+                public Function<Integer, Integer> identity() {
+                    return group.identity();
+                }
+
+                @Override
+                public Function<Integer, Integer> inverseOf(Function<Integer, Integer> t) {
+                    return group.inverseOf(t);
+                }
+            };
+        }
+
+        @Override
+        public Object run() {
+            return plain.exponent(f, 1_000_003);
+        }
+    }
+
+    /**
+     * Common setup of the zip workloads: bounded random arguments and alternating add and subtract operators.
+     */
+    private abstract static class ZipWorkload implements Workload {
+        double[] source;
+        double[] work;
+        HigherOrderUtils.NamedDoubleBinaryOperator[] ops;
+
+        @Override
+        public void setUp(int size) {
+            Random random = new Random(216);
+            source = new double[size];
+            for (int i = 0; i < size; i++) {
+                source[i] = random.nextDouble();
+            }
+            work = new double[size];
+            ops = new HigherOrderUtils.NamedDoubleBinaryOperator[size - 1];
+            for (int i = 0; i < ops.length; i++) {
+                ops[i] = i % 2 == 0 ? HigherOrderUtils.addDouble : HigherOrderUtils.subtractDouble;
+            }
+        }
+    }
+
+    public static class BoxedZip extends ZipWorkload {
+        List<Double> args;
+        List<HigherOrderUtils.NamedBiFunction<Double, Double, Double>> bifunctions;
+
+        @Override
+        public void setUp(int size) {
+            super.setUp(size);
+            args = new ArrayList<>(size);
+            for (double x : source) {
+                args.add(x);
+            }
+            bifunctions = new ArrayList<>(size - 1);
+            for (int i = 0; i < size - 1; i++) {
+                bifunctions.add(i % 2 == 0 ? HigherOrderUtils.add : HigherOrderUtils.subtract);
+            }
+        }
+
+        @Override
+        public Object run() {
+            for (int i = 0; i < source.length; i++) {
+                args.set(i, source[i]);
+            }
+            return HigherOrderUtils.zip(args, bifunctions);
+        }
+    }
+
+    public static class StreamingZip extends BoxedZip {
+        @Override
+        public Object run() {
+            return HigherOrderUtils.zip(args.iterator(), bifunctions.iterator());
+        }
+    }
+
+    public static class PrimitiveZip extends ZipWorkload {
+        @Override
+        public Object run() {
+            System.arraycopy(source, 0, work, 0, source.length);
+            return HigherOrderUtils.zip(work, ops);
+        }
+    }
+
+    public static class ZipScan extends ZipWorkload {
+        @Override
+        public void setUp(int size) {
+            super.setUp(size);
+            Arrays.fill(ops, HigherOrderUtils.addDouble);
+        }
+
+        @Override
+        public Object run() {
+            System.arraycopy(source, 0, work, 0, source.length);
+            return HigherOrderUtils.zipScan(work, ops);
+        }
+    }
+
+    public static class ZipProgramColumns extends ZipWorkload {
+        private static final int ARITY = 5;
+        private double[][] columns;
+        private ZipProgram program;
+
+        @Override
+        public void setUp(int size) {
+            super.setUp(size);
+            columns = new double[ARITY][size];
+            for (double[] column : columns) {
+                System.arraycopy(source, 0, column, 0, size);
+            }
+            program = ZipProgram.compile(HigherOrderUtils.addDouble, HigherOrderUtils.multiplyDouble,
+                    HigherOrderUtils.subtractDouble, HigherOrderUtils.addDouble);
+        }
+
+        @Override
+        public Object run() {
+            return program.evaluateColumns(columns);
+        }
+    }
+
+    /**
+     * Common setup of the SimpleUtils workloads: a list of random integers and a map of the same size.
+     */
+    private abstract static class SimpleUtilsWorkload implements Workload {
+        List<Integer> items;
+        Map<Integer, String> map;
+
+        @Override
+        public void setUp(int size) {
+            Random random = new Random(216);
+            items = new ArrayList<>(size);
+            map = new HashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                items.add(random.nextInt());
+                map.put(i, "value" + i);
+            }
+        }
+    }
+
+    public static class Least extends SimpleUtilsWorkload {
+        @Override
+        public Object run() {
+            return SimpleUtils.least(items, true);
+        }
+    }
+
+    public static class ParallelLeast extends SimpleUtilsWorkload {
+        @Override
+        public Object run() {
+            return SimpleUtils.parallelLeast(items, true);
+        }
+    }
+
+    public static class LeastK extends SimpleUtilsWorkload {
+        @Override
+        public Object run() {
+            return SimpleUtils.leastK(items, 10, true);
+        }
+    }
+
+    public static class Flatten extends SimpleUtilsWorkload {
+        @Override
+        public Object run() {
+            return SimpleUtils.flatten(map);
+        }
+    }
+
+    public static class ParallelFlatten extends SimpleUtilsWorkload {
+        @Override
+        public Object run() {
+            return SimpleUtils.parallelFlatten(map);
+        }
+    }
+
+    public static class FlattenTo extends SimpleUtilsWorkload {
+        private final StringBuilder out = new StringBuilder();
+
+        @Override
+        public Object run() {
+            out.setLength(0);
+            try {
+                SimpleUtils.flattenTo(map, out);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return out.length();
+        }
+    }
+
+    public static class SortComparable implements Workload {
+        private Basketball[] teams;
+
+        @Override
+        public void setUp(int size) {
+            Random random = new Random(216);
+            teams = new Basketball[size];
+            for (int i = 0; i < size; i++) {
+                teams[i] = new Basketball("team" + i, random.nextInt(82), random.nextInt(82));
+            }
+        }
+
+        @Override
+        public Object run() {
+            Basketball[] sorted = teams.clone();
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+
+    public static class StandingsSortedIds implements Workload {
+        private final Standings standings = new Standings();
+
+        @Override
+        public void setUp(int size) {
+            Random random = new Random(216);
+            for (int i = 0; i < size; i++) {
+                standings.add("team" + i, random.nextInt(82), random.nextInt(82));
+            }
+        }
+
+        @Override
+        public Object run() {
+            // replaying the same record still invalidates the cached order, so every run sorts
+            Basketball first = standings.team(0);
+            standings.update(0, first.wins, first.losses);
+            return standings.sortedIds();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * CSE 216 HW3
+ * Nicholas Stamatakis
+ * ID: 114140995
+ * R04
+ *
+ * Contains the entry point of benchmarks.jar, which always records allocation rates next to throughput
+ *
+ */
+
+public class BenchmarkMain {
+    /**
+     * Runs the benchmarks with the GC profiler attached. Accepts the usual JMH command line, e.g.
+     * <code>java -jar target/benchmarks.jar ZipBenchmark -p size=1000</code>.
+     *
+     * @param args JMH command line options
+     */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,41 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSE 216 HW3
+ * Nicholas Stamatakis
+ * ID: 114140995
+ * R04
+ *
+ * Benchmarks bijectionsOf, bijectionStream, findNthBijection and nthBijection over domains of 4 to 10 elements
+ *
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BijectionBenchmark {
+    @Param({"BijectionsOf", "BijectionStream", "FindNthBijection", "NthBijection"})
+    public String workload;
+
+    @Param({"4", "5", "6", "7", "8", "9", "10"})
+    public int size;
+
+    private Workload hotPath;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        hotPath = Workload.load(workload, size);
+    }
+
+    @Benchmark
+    public Object run() {
+        return hotPath.run();
+    }
+}
@@ -0,0 +1,41 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSE 216 HW3
+ * Nicholas Stamatakis
+ * ID: 114140995
+ * R04
+ *
+ * Benchmarks SimpleUtils.least, flatten and their variants
+ *
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleUtilsBenchmark {
+    @Param({"Least", "ParallelLeast", "LeastK", "Flatten", "ParallelFlatten", "FlattenTo"})
+    public String workload;
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private Workload hotPath;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        hotPath = Workload.load(workload, size);
+    }
+
+    @Benchmark
+    public Object run() {
+        return hotPath.run();
+    }
+}
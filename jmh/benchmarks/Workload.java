@@ -0,0 +1,46 @@
+package benchmarks;
+
+/**
+ * CSE 216 HW3
+ * Nicholas Stamatakis
+ * ID: 114140995
+ * R04
+ *
+ * Contains the Workload interface, one measured hot path of the homework classes
+ *
+ */
+
+public interface Workload {
+    /**
+     * Prepares the inputs of the workload, outside of the measured region.
+     *
+     * @param size the size of the input, such as the number of domain elements or list entries
+     */
+    void setUp(int size);
+
+    /**
+     * Runs the hot path once.
+     *
+     * @return the result of the hot path, which JMH consumes so that it cannot be optimized away.
+     */
+    Object run();
+
+    /**
+     * The homework classes live in the default package, which JMH benchmarks cannot reference. Workloads are
+     * therefore implemented as nested classes of the default-package class <code>BenchmarkWorkloads</code> and loaded
+     * by name once per trial; each call then goes through this interface, which the JIT inlines.
+     *
+     * @param name the simple name of the workload class
+     * @param size the size of the input
+     * @return the prepared workload.
+     */
+    static Workload load(String name, int size) {
+        try {
+            Workload workload = (Workload) Class.forName("BenchmarkWorkloads$" + name).getConstructor().newInstance();
+            workload.setUp(size);
+            return workload;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Unknown workload: " + name, e);
+        }
+    }
+}
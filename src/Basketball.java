@@ -9,13 +9,31 @@ public class Basketball implements Comparable<Basketball>{
         this.losses = losses;
     }
 
+    /**
+     * Computes a sort key that orders records by win percentage exactly: the key is
+     * <code>floor(wins * 2^62 / (wins + losses))</code>, which separates any two distinct percentages as long as
+     * <code>wins + losses</code> fits in an <code>int</code>, and is equal for equal percentages. A team with no
+     * games has a key of <code>0</code>.
+     *
+     * @param wins the number of wins, not negative
+     * @param losses the number of losses, not negative
+     * @return the sort key of the record, where a greater key means a greater win percentage.
+     */
+    public static long winKey(int wins, int losses) {
+        long games = (long) wins + losses;
+        if (games == 0) {
+            return 0;
+        }
+        // long division in two base-2^31 digits, so that wins * 2^62 never overflows
+        long high = ((long) wins << 31) / games;
+        long remainder = ((long) wins << 31) % games;
+        return (high << 31) + (remainder << 31) / games;
+    }
+
     @Override
     public int compareTo(Basketball other) {
-        int thisWinPercentage = wins * 100 / (wins + losses);
-        int otherWinPercentage = other.wins * 100 / (other.wins + other.losses);
-
         // Sort by win percentage in descending order
-        return Integer.compare(otherWinPercentage, thisWinPercentage);
+        return Long.compare(winKey(other.wins, other.losses), winKey(wins, losses));
     }
 
     @Override
@@ -2,6 +2,7 @@ import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * CSE 216 HW3
@@ -21,51 +22,21 @@ public class BijectionGroup {
       * @param <T> the type of the elements in the domain set
      */
     public static <T> Set<Function<T, T>> bijectionsOf(Set<T> domain) {
-        if (domain.isEmpty()) {
-            throw new IllegalArgumentException("Domain set cannot be empty.");
-        }
-        List<T> domainList = new ArrayList<>(domain);
-        List<List<T>> permutations = new ArrayList<>();
-        generatePermutations(domainList.size(), domainList, permutations);
-        Set<Function<T, T>> bijections = new LinkedHashSet<>(); // Changed to LinkedHashSet
-        for (List<T> permutation : permutations) {
-            Function<T, T> bijection = x -> permutation.get(domainList.indexOf(x));
-            bijections.add(bijection);
-        }
-        return bijections;
-    }
-
-    /**
-     Generates all permutations of a given list of elements and adds them to the given list of permutations.
-     @param n the size of the list of elements
-     @param elements the list of elements to permute
-     @param permutations the list of permutations to add the generated permutations to
-     @param <T> the type of the elements in the list
-     */
-    private static <T> void generatePermutations(int n, List<T> elements, List<List<T>> permutations) {
-        if (n == 1) {
-            permutations.add(new ArrayList<>(elements));
-        } else {
-            for (int i = 0; i < n - 1; i++) {
-                generatePermutations(n - 1, elements, permutations);
-                int j = n % 2 == 0 ? i : 0;
-                swap(elements, j, n - 1);
-            }
-            generatePermutations(n - 1, elements, permutations);
-        }
+        return bijectionStream(domain).collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
     /**
-     * Swaps the elements at the given indices in the given list.
-     * @param list the list of elements to swap
-     * @param i the index of the first element to swap
-     * @param j the index of the second element to swap
-     * @param <T> the type of the elements in the list
+     * Returns a lazy stream of all bijections of the input domain set. Bijections are produced on demand in
+     * lexicographic order of their images (the identity comes first), so callers can filter or short-circuit
+     * without holding every bijection in memory. The stream splits by rank, so <code>parallel()</code> hands
+     * each worker its own contiguous range of bijections.
+     * @param domain the domain set to generate bijections for
+     * @return an ordered stream of all bijections of the input domain set
+     * @param <T> the type of the elements in the domain set
+     * @throws IllegalArgumentException if the domain is empty or has more than 20 elements
      */
-    private static <T> void swap(List<T> list, int i, int j) {
-        T temp = list.get(i);
-        list.set(i, list.get(j));
-        list.set(j, temp);
+    public static <T> Stream<Permutation<T>> bijectionStream(Set<T> domain) {
+        return StreamSupport.stream(new PermutationSpliterator<>(new Permutation.Domain<>(domain)), false);
     }
 
     /**
@@ -76,10 +47,12 @@ public class BijectionGroup {
      * @param <T>
      */
     public static <T> Group<Function<T, T>> bijectionGroup(Set<T> elements) {
+        Permutation.Domain<T> domain = new Permutation.Domain<>(elements);
         return new Group<Function<T, T>>() {
             /**
              * Binary operation of the bijection group, where the result is a function composed of two functions
-             * applied in sequence.
+             * applied in sequence. Two permutations of the same domain are composed eagerly into a new permutation;
+             * any other pair of functions is composed lazily.
              *
              * @param f The first function.
              * @param g The second function.
@@ -87,40 +60,99 @@ public class BijectionGroup {
              */
             @Override
             public Function<T, T> binaryOperation(Function<T, T> f, Function<T, T> g) {
+                if (f instanceof Permutation && g instanceof Permutation) {
+                    Permutation<T> p = (Permutation<T>) f;
+                    Permutation<T> q = (Permutation<T>) g;
+                    if (p.domain().equals(q.domain())) {
+                        return p.compose(q);
+                    }
+                }
                 return x -> f.apply(g.apply(x));
             }
 
             /**
-             * Identity element of the bijection group, which is the identity function.
+             * Identity element of the bijection group, which is the identity function. It is represented as a
+             * permutation so that products with it stay flat.
              *
              * @return The identity function.
              */
             @Override
             public Function<T, T> identity() {
-                return x -> x;
+                return Permutation.identity(domain);
+            }
+
+            /**
+             * Exponentiation in the bijection group. Permutations are raised to a power through their cycle
+             * decomposition in linear time; any other function falls back to repeated squaring.
+             *
+             * @param f The function serving as the base.
+             * @param k The exponent, which may be negative.
+             * @return f composed with itself k times.
+             */
+            @Override
+            public Function<T, T> exponent(Function<T, T> f, int k) {
+                if (f instanceof Permutation) {
+                    return ((Permutation<T>) f).power(k);
+                }
+                return Group.super.exponent(f, k);
             }
 
             /**
              * Inverse element of a function in the bijection group, which is the function that "undoes" the given function.
+             * The inverse is built eagerly as a permutation, so applying it takes constant time.
              *
              * @param f The function to find the inverse of.
              * @return The inverse function of f.
-             * //@throws IllegalArgumentException if f has no inverse in the group.
+             * @throws IllegalArgumentException if f has no inverse in the group.
              */
             @Override
             public Function<T, T> inverseOf(Function<T, T> f) {
-                return x -> {
-                    for (T y : elements) {
-                        if (Objects.equals(f.apply(y), x)) {
-                            return y;
-                        }
-                    }
-                    throw new IllegalArgumentException("Function has no inverse in this group.");
-                };
+                if (f instanceof Permutation) {
+                    return ((Permutation<T>) f).inverse();
+                }
+                try {
+                    return Permutation.tabulate(domain, f).inverse();
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Function has no inverse in this group.", e);
+                }
             }
         };
     }
 
+    /**
+     * Returns the subgroup of the bijections of the input domain set generated by the given permutations. The
+     * subgroup is described by a base and strong generating set, so its order, membership tests and uniformly random
+     * elements cost polynomial time in the size of the domain, which does not need to be small enough to enumerate.
+     * @param domain the domain set the generators act on
+     * @param gens the generators of the subgroup
+     * @return the subgroup generated by <code>gens</code>
+     * @param <T> the type of the elements in the domain set
+     * @throws IllegalArgumentException if a generator acts on a different domain
+     */
+    @SafeVarargs
+    public static <T> PermutationGroup<T> generatedSubgroup(Set<T> domain, Permutation<T>... gens) {
+        List<Permutation<T>> generators = new ArrayList<>(gens.length);
+        for (Permutation<T> g : gens) {
+            generators.add(g);
+        }
+        return new PermutationGroup<>(new Permutation.Domain<>(domain), generators);
+    }
+
+    /**
+     * Counts the bijections of the input domain set by cycle type, enumerating them in parallel without
+     * materializing the whole group.
+     * @param domain the domain set to generate bijections for
+     * @return a map from each cycle type, in non-increasing order of cycle length, to the number of bijections
+     * having that cycle type
+     * @param <T> the type of the elements in the domain set
+     */
+    public static <T> Map<List<Integer>, Long> cycleTypeHistogram(Set<T> domain) {
+        return bijectionStream(domain).parallel()
+                .collect(Collectors.groupingByConcurrent(
+                        p -> Arrays.stream(p.cycleType()).boxed().collect(Collectors.toList()),
+                        Collectors.counting()));
+    }
+
     /**
      * Prints the mapping of each element in the given set a_few to the corresponding output of applying the
      * given function f on it.
@@ -145,15 +177,98 @@ public class BijectionGroup {
     public static <T> Function<T,T> findNthBijection(int n, Set<T> a_few, Set<Function<T,T>> bijections) {
         if (n < 0 || n >= bijections.size())
             throw new IllegalArgumentException("Index is out of Bounds");
-        // Create a list of the bijections to access the nth bijection
-        List<Function<T, T>> bijectionList = new ArrayList<>(bijections);
-        // Get the nth bijection from the list
-        Function<T, T> nthBijection = bijectionList.get(n);
-        // Print the mapping of each element in a_few through the nth bijection
-        return nthBijection;
+        // Walk to the nth bijection instead of copying the whole set into a list
+        Iterator<Function<T, T>> iterator = bijections.iterator();
+        for (int i = 0; i < n; i++) {
+            iterator.next();
+        }
+        return iterator.next();
+    }
+
+    /**
+     * Returns the bijection at the given position of {@link #bijectionStream(Set)} (and of
+     * {@link #bijectionsOf(Set)}) without enumerating any other bijection, by reading the rank in the factorial
+     * number system.
+     * @param domain the domain set of the bijection
+     * @param rank the position of the bijection, in the range <code>[0, n!)</code>
+     * @return the bijection with the given rank
+     * @param <T> the type of the elements in the domain set
+     * @throws IllegalArgumentException if the rank is out of bounds
+     */
+    public static <T> Permutation<T> nthBijection(Set<T> domain, long rank) {
+        Permutation.Domain<T> indexed = new Permutation.Domain<>(domain);
+        if (rank < 0 || rank >= Permutation.factorial(indexed.size()))
+            throw new IllegalArgumentException("Index is out of Bounds");
+        int[] image = new int[indexed.size()];
+        Permutation.unrank(rank, image);
+        return new Permutation<>(indexed, image);
+    }
+
+    /**
+     * @param bijection a bijection of a domain set
+     * @return the position of <code>bijection</code> in {@link #bijectionStream(Set)}, such that
+     * <code>nthBijection(domain, rankOf(bijection))</code> is equal to <code>bijection</code>.
+     * @param <T> the type of the elements in the domain set
+     */
+    public static <T> long rankOf(Permutation<T> bijection) {
+        return bijection.rank();
+    }
+
+    /**
+     * Enumerates the subgroup generated by <code>gens</code> by closing it under composition. Only feasible for small
+     * groups, which is what makes it a check on {@link #generatedSubgroup(Set, Permutation[])}.
+     */
+    private static <T> Set<Permutation<T>> closure(List<Permutation<T>> gens) {
+        Set<Permutation<T>> elements = new HashSet<>();
+        Deque<Permutation<T>> pending = new ArrayDeque<>();
+        Permutation<T> identity = Permutation.identity(gens.get(0).domain());
+        elements.add(identity);
+        pending.add(identity);
+        while (!pending.isEmpty()) {
+            Permutation<T> p = pending.poll();
+            for (Permutation<T> g : gens) {
+                Permutation<T> q = g.compose(p);
+                if (elements.add(q)) {
+                    pending.add(q);
+                }
+            }
+        }
+        return elements;
+    }
+
+    /**
+     * Static method used to test generatedSubgroup against a brute-force closure of its generators
+     **/
+    public static void testGeneratedSubgroup() {
+        Set<Integer> points = Stream.of(0, 1, 2, 3, 4, 5).collect(Collectors.toCollection(LinkedHashSet::new));
+        Permutation.Domain<Integer> domain = new Permutation.Domain<>(points);
+        List<List<Permutation<Integer>>> cases = Arrays.asList(
+                // Test case 1 - S_6 from a transposition and a 6-cycle
+                Arrays.asList(Permutation.of(domain, new int[]{1, 0, 2, 3, 4, 5}),
+                        Permutation.of(domain, new int[]{1, 2, 3, 4, 5, 0})),
+                // Test case 2 - the dihedral group of the hexagon
+                Arrays.asList(Permutation.of(domain, new int[]{1, 2, 3, 4, 5, 0}),
+                        Permutation.of(domain, new int[]{0, 5, 4, 3, 2, 1})),
+                // Test case 3 - two disjoint 3-cycles, an abelian group of order 9
+                Arrays.asList(Permutation.of(domain, new int[]{1, 2, 0, 3, 4, 5}),
+                        Permutation.of(domain, new int[]{0, 1, 2, 4, 5, 3})),
+                // Test case 4 - random generators
+                Arrays.asList(nthBijection(points, 311), nthBijection(points, 95)));
+        for (int c = 0; c < cases.size(); c++) {
+            List<Permutation<Integer>> gens = cases.get(c);
+            Set<Permutation<Integer>> expected = closure(gens);
+            PermutationGroup<Integer> actual = generatedSubgroup(points, gens.get(0), gens.get(1));
+            System.out.println("\nExpected order: " + expected.size());
+            System.out.println("Actual order: " + actual.order());
+            assert actual.order().longValue() == expected.size() : "Test case " + (c + 1) + " failed";
+            bijectionStream(points).forEach(p -> {
+                assert actual.contains(p) == expected.contains(p) : "Membership of " + p + " failed";
+            });
+        }
     }
 
     public static void main(String[] args) {
+        testGeneratedSubgroup();
         Set<Integer> a_few = Stream.of(1, 2, 3,4).collect(Collectors.toSet());
         Set<Function<Integer, Integer>> bijections = bijectionsOf(a_few);
         bijections.forEach(aBijection -> {
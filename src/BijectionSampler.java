@@ -0,0 +1,100 @@
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * CSE 216 HW3
+ * Nicholas Stamatakis
+ * ID: 114140995
+ * R04
+ *
+ * Contains BijectionSampler, which draws uniformly random bijections of a set without enumerating them
+ *
+ */
+
+public final class BijectionSampler<T> {
+    /**
+     * The number of consecutive samples of {@link #samples(long, long)} drawn from one generator. It is fixed so that
+     * the samples depend only on the seed, never on how the stream is split across threads.
+     */
+    private static final int BLOCK_SIZE = 1 << 10;
+
+    /**
+     * The increment between the seeds of consecutive blocks, the same odd constant SplittableRandom uses.
+     */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final Permutation.Domain<T> domain;
+
+    /**
+     * @param domain the set whose bijections are sampled
+     * @throws IllegalArgumentException if the domain is empty.
+     */
+    public BijectionSampler(Set<T> domain) {
+        if (domain.isEmpty()) {
+            throw new IllegalArgumentException("Domain set cannot be empty.");
+        }
+        this.domain = new Permutation.Domain<>(domain);
+    }
+
+    /**
+     * @return the number of elements in the domain.
+     */
+    public int degree() {
+        return domain.size();
+    }
+
+    /**
+     * Writes the image of a uniformly random permutation of <code>0..degree-1</code> into <code>buffer</code> with the
+     * inside-out Fisher-Yates shuffle: one pass, <code>degree - 1</code> random draws and no allocation. The previous
+     * contents of <code>buffer</code> are ignored, so the same buffer can be reused for every sample.
+     *
+     * @param buffer an array of length <code>degree()</code>
+     * @param random the source of randomness
+     * @throws IllegalArgumentException if the buffer has the wrong length.
+     */
+    public void shuffleInto(int[] buffer, SplittableRandom random) {
+        if (buffer.length != domain.size()) {
+            throw new IllegalArgumentException("Buffer must have one entry per domain element.");
+        }
+        buffer[0] = 0;
+        for (int i = 1; i < buffer.length; i++) {
+            int j = random.nextInt(i + 1);
+            buffer[i] = buffer[j];
+            buffer[j] = i;
+        }
+    }
+
+    /**
+     * @param random the source of randomness
+     * @return a uniformly random bijection of the domain.
+     */
+    public Permutation<T> sample(SplittableRandom random) {
+        int[] image = new int[domain.size()];
+        shuffleInto(image, random);
+        return new Permutation<>(domain, image);
+    }
+
+    /**
+     * Draws <code>count</code> uniformly random bijections. The samples are cut into fixed-size blocks, and each block
+     * has its own generator derived from <code>seed</code> and the block's index, so threads never share a generator
+     * and the same seed gives the same samples, in the same order, whether or not the stream is made parallel.
+     *
+     * @param count the number of samples
+     * @param seed the seed the samples are derived from
+     * @return a stream of <code>count</code> samples.
+     * @throws IllegalArgumentException if <code>count</code> is negative.
+     */
+    public Stream<Permutation<T>> samples(long count, long seed) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative.");
+        }
+        long blocks = (count + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        return LongStream.range(0, blocks).boxed().flatMap(block -> {
+            SplittableRandom random = new SplittableRandom(seed + block * GOLDEN_GAMMA).split();
+            long size = Math.min(BLOCK_SIZE, count - block * BLOCK_SIZE);
+            return LongStream.range(0, size).mapToObj(i -> sample(random));
+        });
+    }
+}
@@ -0,0 +1,253 @@
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * CSE 216 HW3
+ * Nicholas Stamatakis
+ * ID: 114140995
+ * R04
+ *
+ * Contains the CachedGroup decorator, which memoizes the binary operation and inverses of another group
+ *
+ */
+
+public class CachedGroup<T> implements Group<T> {
+    /**
+     * The largest Cayley table that is precomputed, in entries. At four bytes an entry this is 128 MB, which admits
+     * every bijection group up to degree 7.
+     */
+    public static final int MAX_TABLE_ENTRIES = 1 << 25;
+
+    /**
+     * One cached product. Its fields are final, so a slot read from the cache is always seen fully built.
+     */
+    private static final class Product<T> {
+        final T one;
+        final T other;
+        final T product;
+
+        Product(T one, T other, T product) {
+            this.one = one;
+            this.other = other;
+            this.product = product;
+        }
+    }
+
+    private final Group<T> group;
+    private final List<T> elements;
+    private final ToIntFunction<? super T> index;
+    private final int[] table;
+    private final int[] inverses;
+    private final T identity;
+    private final AtomicReferenceArray<Product<T>> products;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Wraps a group so that repeated binary operations and inverses are looked up instead of recomputed. If the group
+     * has at most <code>maxTableSize</code> elements, its whole Cayley table is computed up front. Lookups then find
+     * the operands by reference among <code>elements</code>, which every product read from the table is, so a chain of
+     * products stays on the table. Operands that are merely equal to an element are computed by the decorated group.
+     * Otherwise, or if the table would have more than {@link #MAX_TABLE_ENTRIES} entries, products are kept in a
+     * direct-mapped cache of at least <code>cacheCapacity</code> slots, where each product replaces whatever product
+     * hashed to the same slot. The cache takes no locks, and an operand is matched by <code>equals</code>.
+     *
+     * @param group the group to decorate
+     * @param elements every element of the group, in the order used to index the Cayley table
+     * @param maxTableSize the largest number of elements for which the Cayley table is precomputed
+     * @param cacheCapacity the number of products kept when the Cayley table is not precomputed
+     */
+    public CachedGroup(Group<T> group, Collection<T> elements, int maxTableSize, int cacheCapacity) {
+        if (cacheCapacity < 0) {
+            throw new IllegalArgumentException("Cache capacity cannot be negative.");
+        }
+        this.group = group;
+        if (!elements.isEmpty() && elements.size() <= maxTableSize
+                && (long) elements.size() * elements.size() <= MAX_TABLE_ENTRIES) {
+            this.elements = new ArrayList<>(elements);
+            Map<T, Integer> canonical = new HashMap<>(this.elements.size() * 2);
+            Map<T, Integer> byReference = new IdentityHashMap<>(this.elements.size());
+            for (int i = 0; i < this.elements.size(); i++) {
+                canonical.put(this.elements.get(i), i);
+                byReference.put(this.elements.get(i), i);
+            }
+            this.index = t -> {
+                Integer i = byReference.get(t);
+                return i == null ? -1 : i;
+            };
+            this.table = new int[this.elements.size() * this.elements.size()];
+            this.inverses = new int[this.elements.size()];
+            ToIntFunction<T> canonicalIndex = t -> {
+                Integer i = canonical.get(t);
+                return i == null ? -1 : i;
+            };
+            tabulate(canonicalIndex);
+            this.identity = this.elements.get(indexOf(canonicalIndex, group.identity()));
+            this.products = null;
+        } else {
+            this.elements = null;
+            this.index = null;
+            this.table = null;
+            this.inverses = null;
+            this.identity = null;
+            int slots = 1;
+            while (slots < Math.min(cacheCapacity, 1 << 30)) {
+                slots <<= 1;
+            }
+            this.products = cacheCapacity == 0 ? null : new AtomicReferenceArray<>(slots);
+        }
+    }
+
+    /**
+     * Wraps a group whose elements have an index the caller can compute directly, and precomputes its whole Cayley
+     * table. Every lookup is a call to <code>index</code> per operand and a single array read.
+     *
+     * @param group the group to decorate
+     * @param elements every element of the group, in index order
+     * @param index the position of an element in <code>elements</code>, or <code>-1</code> for a value that is not
+     *              one, whose products are then computed by the decorated group
+     * @throws IllegalArgumentException if the group has no elements or its table would have more than
+     * {@link #MAX_TABLE_ENTRIES} entries.
+     */
+    public CachedGroup(Group<T> group, List<T> elements, ToIntFunction<? super T> index) {
+        if (elements.isEmpty() || (long) elements.size() * elements.size() > MAX_TABLE_ENTRIES) {
+            throw new IllegalArgumentException("Cayley table must have between 1 and " + MAX_TABLE_ENTRIES + " entries.");
+        }
+        this.group = group;
+        this.elements = new ArrayList<>(elements);
+        this.index = index;
+        this.table = new int[this.elements.size() * this.elements.size()];
+        this.inverses = new int[this.elements.size()];
+        this.products = null;
+        tabulate(index);
+        this.identity = this.elements.get(indexOf(index, group.identity()));
+    }
+
+    private void tabulate(ToIntFunction<? super T> canonical) {
+        int m = elements.size();
+        for (int i = 0; i < m; i++) {
+            T a = elements.get(i);
+            for (int j = 0; j < m; j++) {
+                table[i * m + j] = indexOf(canonical, group.binaryOperation(a, elements.get(j)));
+            }
+            inverses[i] = indexOf(canonical, group.inverseOf(a));
+        }
+    }
+
+    private static <T> int indexOf(ToIntFunction<? super T> canonical, T t) {
+        int i = canonical.applyAsInt(t);
+        if (i < 0) {
+            throw new IllegalArgumentException("The group is not closed over the given elements.");
+        }
+        return i;
+    }
+
+    /**
+     * Creates a cached bijection group over the given domain. The Cayley table is indexed by permutation rank, so it
+     * lines up with {@link BijectionGroup#bijectionStream(Set)} and a lookup ranks each operand instead of hashing it.
+     * Groups whose table would exceed <code>maxTableSize</code> elements or {@link #MAX_TABLE_ENTRIES} entries fall
+     * back to the product cache.
+     *
+     * @param domain the domain of the bijections
+     * @param maxTableSize the largest group order for which the Cayley table is precomputed
+     * @param cacheCapacity the number of products kept when the Cayley table is not precomputed
+     * @param <T> the type of the elements in the domain set
+     * @return the cached bijection group of <code>domain</code>.
+     */
+    public static <T> CachedGroup<Function<T, T>> ofBijections(Set<T> domain, int maxTableSize, int cacheCapacity) {
+        Group<Function<T, T>> group = BijectionGroup.bijectionGroup(domain);
+        long order = domain.isEmpty() || domain.size() > 12 ? Long.MAX_VALUE : Permutation.factorial(domain.size());
+        if (order > maxTableSize || order * order > MAX_TABLE_ENTRIES) {
+            return new CachedGroup<>(group, Collections.<Function<T, T>>emptyList(), maxTableSize, cacheCapacity);
+        }
+        List<Function<T, T>> elements = new ArrayList<>(BijectionGroup.bijectionsOf(domain));
+        Permutation.Domain<?> indexed = ((Permutation<?>) elements.get(0)).domain();
+        return new CachedGroup<>(group, elements, f -> {
+            if (f instanceof Permutation) {
+                Permutation<?> p = (Permutation<?>) f;
+                if (p.domain() == indexed || p.domain().equals(indexed)) {
+                    return (int) p.rank();
+                }
+            }
+            return -1;
+        });
+    }
+
+    /**
+     * @return <code>true</code> if the whole Cayley table of the group was precomputed.
+     */
+    public boolean isTabulated() {
+        return table != null;
+    }
+
+    /**
+     * @return the number of binary operations answered from the product cache. Reads of a precomputed Cayley table
+     * are not counted, so that a lookup costs no more than the array read.
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of binary operations that had to be computed by the decorated group.
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    @Override
+    public T binaryOperation(T one, T other) {
+        if (table != null) {
+            int i = index.applyAsInt(one);
+            int j = index.applyAsInt(other);
+            if (i >= 0 && j >= 0) {
+                return elements.get(table[i * elements.size() + j]);
+            }
+            misses.increment();
+            return group.binaryOperation(one, other);
+        }
+        if (products == null) {
+            misses.increment();
+            return group.binaryOperation(one, other);
+        }
+        int h = 31 * Objects.hashCode(one) + Objects.hashCode(other);
+        int slot = (h ^ (h >>> 16)) & (products.length() - 1);
+        Product<T> cached = products.get(slot);
+        if (cached != null && Objects.equals(cached.one, one) && Objects.equals(cached.other, other)) {
+            hits.increment();
+            return cached.product;
+        }
+        misses.increment();
+        T product = group.binaryOperation(one, other);
+        products.set(slot, new Product<>(one, other, product));
+        return product;
+    }
+
+    /**
+     * @return the identity element of the decorated group; when the Cayley table is precomputed, the table's own
+     * element, so that products with it are read from the table.
+     */
+    @Override
+    public T identity() {
+        return identity != null ? identity : group.identity();
+    }
+
+    @Override
+    public T inverseOf(T t) {
+        if (table != null) {
+            int i = index.applyAsInt(t);
+            if (i >= 0) {
+                return elements.get(inverses[i]);
+            }
+        }
+        return group.inverseOf(t);
+    }
+
+    @Override
+    public T exponent(T t, int k) {
+        return group.exponent(t, k);
+    }
+}
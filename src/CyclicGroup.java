@@ -0,0 +1,96 @@
+/**
+ * CSE 216 HW3
+ * Nicholas Stamatakis
+ * ID: 114140995
+ * R04
+ *
+ * Contains CyclicGroup, the integers modulo n under addition
+ *
+ */
+
+public final class CyclicGroup implements IntGroup {
+    /**
+     * The largest supported order, which keeps the sum of two elements from overflowing.
+     */
+    public static final int MAX_ORDER = 1 << 30;
+
+    private final int n;
+
+    /**
+     * @param n the order of the group; its elements are <code>0..n-1</code>
+     * @throws IllegalArgumentException if <code>n</code> is not between 1 and {@link #MAX_ORDER}.
+     */
+    public CyclicGroup(int n) {
+        if (n < 1 || n > MAX_ORDER) {
+            throw new IllegalArgumentException("Order must be between 1 and " + MAX_ORDER + ".");
+        }
+        this.n = n;
+    }
+
+    /**
+     * @return the number of elements of this group.
+     */
+    public int order() {
+        return n;
+    }
+
+    private int check(int t) {
+        if (t < 0 || t >= n) {
+            throw new IllegalArgumentException(t + " is not in the group.");
+        }
+        return t;
+    }
+
+    @Override
+    public int binaryOperation(int one, int other) {
+        int s = check(one) + check(other) - n;
+        return s + ((s >> 31) & n);
+    }
+
+    @Override
+    public int identity() {
+        return 0;
+    }
+
+    @Override
+    public int inverseOf(int t) {
+        return check(t) == 0 ? 0 : n - t;
+    }
+
+    @Override
+    public int exponent(int t, int k) {
+        return (int) Math.floorMod((long) check(t) * k, (long) n);
+    }
+
+    /**
+     * Adds the arrays pairwise modulo <code>n</code>. The loop has no branches or divisions, so the JIT can vectorize
+     * it. Elements are not range-checked: arguments outside <code>0..n-1</code> give unspecified results.
+     */
+    @Override
+    public void combine(int[] a, int[] b, int[] out) {
+        if (a.length != b.length || a.length != out.length) {
+            throw new IllegalArgumentException("Every array must have the same length.");
+        }
+        int n = this.n;
+        for (int i = 0; i < out.length; i++) {
+            int s = a[i] + b[i] - n;
+            out[i] = s + ((s >> 31) & n);
+        }
+    }
+
+    /**
+     * Negates the array modulo <code>n</code> with a branch-free loop the JIT can vectorize. Elements are not
+     * range-checked: arguments outside <code>0..n-1</code> give unspecified results.
+     */
+    @Override
+    public void inverse(int[] in, int[] out) {
+        if (in.length != out.length) {
+            throw new IllegalArgumentException("Every array must have the same length.");
+        }
+        int n = this.n;
+        for (int i = 0; i < out.length; i++) {
+            int s = -in[i];
+            out[i] = s + ((s >> 31) & n);
+        }
+    }
+}
@@ -49,17 +49,27 @@ public interface Group<T> {
 
     /**
      * This is a utility function, serving as the definition of exponentiation for this group. Exponentiation is defined
-     * as <code>exponent(t, 0)</code> being the <code>identity()</code> element, and <code>exponent(t, n)</code> being
-     * <code>binaryOperation(t, exponent(t, n-1))</code>.
+     * as <code>exponent(t, 0)</code> being the <code>identity()</code> element, <code>exponent(t, n)</code> being
+     * <code>binaryOperation(t, exponent(t, n-1))</code>, and <code>exponent(t, -n)</code> being
+     * <code>exponent(inverseOf(t), n)</code>. The result is computed by repeated squaring, which takes
+     * <code>O(log |k|)</code> binary operations and no recursion.
      *
      * @param t the group element serving as the base.
      * @param k the integer exponent, indicating the number of times the binary operation is applied on <code>t</code>.
-     *          The exponent must be a non-negative integer value.
+     *          A negative exponent applies the binary operation on the inverse of <code>t</code> instead.
      * @return the result of the binary operation applied <code>k</code> times on <code>t</code>.
      */
     default T exponent(T t, int k) {
-        if (k < 0)
-            throw new IllegalArgumentException("The exponent must be a non-negative integer value.");
-        return k == 0 ? identity() : binaryOperation(t, exponent(t, k - 1));
+        long e = Math.abs((long) k);
+        T base = k < 0 ? inverseOf(t) : t;
+        T result = identity();
+        while (e > 0) {
+            if ((e & 1) == 1)
+                result = binaryOperation(base, result);
+            e >>= 1;
+            if (e > 0)
+                base = binaryOperation(base, base);
+        }
+        return result;
     }
 }
@@ -0,0 +1,167 @@
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CSE 216 HW3
+ * Nicholas Stamatakis
+ * ID: 114140995
+ * R04
+ *
+ * Contains GroupMetrics, the counters and latency histograms recorded by InstrumentedGroup
+ *
+ */
+
+public class GroupMetrics implements GroupMetricsMBean {
+    private static final ConcurrentMap<String, GroupMetrics> REGISTRY = new ConcurrentHashMap<>();
+
+    /**
+     * One histogram bucket per bit of a <code>long</code> nanosecond duration.
+     */
+    private static final int BUCKETS = 64;
+
+    /**
+     * The counters of one group operation. Recording allocates nothing.
+     */
+    static final class Operation {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+        void record(long elapsed) {
+            count.increment();
+            nanos.add(elapsed);
+            histogram.incrementAndGet(elapsed <= 0 ? 0 : BUCKETS - Long.numberOfLeadingZeros(elapsed));
+        }
+
+        long[] histogram() {
+            long[] snapshot = new long[BUCKETS];
+            for (int b = 0; b < BUCKETS; b++) {
+                snapshot[b] = histogram.get(b);
+            }
+            return snapshot;
+        }
+
+        void reset() {
+            count.reset();
+            nanos.reset();
+            for (int b = 0; b < BUCKETS; b++) {
+                histogram.set(b, 0);
+            }
+        }
+    }
+
+    volatile boolean enabled = true;
+    volatile boolean chainDepthTracking = false;
+    final Operation binaryOperation = new Operation();
+    final Operation inverseOf = new Operation();
+    final Operation exponent = new Operation();
+    private final AtomicInteger maxChainDepth = new AtomicInteger();
+
+    /**
+     * Returns the metrics registered under the given name, creating and exposing them through the platform MBean
+     * server as <code>cse216:type=GroupMetrics,name=&lt;name&gt;</code> on first use.
+     *
+     * @param name the name of the instrumented group
+     * @return the metrics of the named group.
+     */
+    public static GroupMetrics register(String name) {
+        return REGISTRY.computeIfAbsent(name, key -> {
+            GroupMetrics metrics = new GroupMetrics();
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(metrics,
+                        new ObjectName("cse216:type=GroupMetrics,name=" + ObjectName.quote(key)));
+            } catch (JMException e) {
+                throw new IllegalStateException("Could not register metrics for " + key, e);
+            }
+            return metrics;
+        });
+    }
+
+    void recordChainDepth(int depth) {
+        maxChainDepth.accumulateAndGet(depth, Math::max);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isChainDepthTracking() {
+        return chainDepthTracking;
+    }
+
+    @Override
+    public void setChainDepthTracking(boolean chainDepthTracking) {
+        this.chainDepthTracking = chainDepthTracking;
+    }
+
+    @Override
+    public long getBinaryOperationCount() {
+        return binaryOperation.count.sum();
+    }
+
+    @Override
+    public long getInverseOfCount() {
+        return inverseOf.count.sum();
+    }
+
+    @Override
+    public long getExponentCount() {
+        return exponent.count.sum();
+    }
+
+    @Override
+    public long getBinaryOperationNanos() {
+        return binaryOperation.nanos.sum();
+    }
+
+    @Override
+    public long getInverseOfNanos() {
+        return inverseOf.nanos.sum();
+    }
+
+    @Override
+    public long getExponentNanos() {
+        return exponent.nanos.sum();
+    }
+
+    @Override
+    public long[] getBinaryOperationLatencyHistogram() {
+        return binaryOperation.histogram();
+    }
+
+    @Override
+    public long[] getInverseOfLatencyHistogram() {
+        return inverseOf.histogram();
+    }
+
+    @Override
+    public long[] getExponentLatencyHistogram() {
+        return exponent.histogram();
+    }
+
+    @Override
+    public int getMaxChainDepth() {
+        return maxChainDepth.get();
+    }
+
+    @Override
+    public void reset() {
+        binaryOperation.reset();
+        inverseOf.reset();
+        exponent.reset();
+        maxChainDepth.set(0);
+    }
+}
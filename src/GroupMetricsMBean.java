@@ -0,0 +1,94 @@
+/**
+ * CSE 216 HW3
+ * Nicholas Stamatakis
+ * ID: 114140995
+ * R04
+ *
+ * Contains the JMX management interface of GroupMetrics
+ *
+ */
+
+public interface GroupMetricsMBean {
+    /**
+     * @return <code>true</code> if operations are being recorded.
+     */
+    boolean isEnabled();
+
+    /**
+     * Turns recording on or off. While off, an instrumented group only pays for reading this flag.
+     *
+     * @param enabled whether operations should be recorded
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * @return <code>true</code> if the depth of lazily composed function chains is being tracked.
+     */
+    boolean isChainDepthTracking();
+
+    /**
+     * Turns chain-depth tracking on or off; it is off by default. Tracking remembers the depth of every lazily
+     * composed result in a synchronized weak map, so while on, each such <code>binaryOperation</code> takes a shared
+     * lock and allocates a map entry. It has no effect while recording is disabled.
+     *
+     * @param chainDepthTracking whether chain depths should be tracked
+     */
+    void setChainDepthTracking(boolean chainDepthTracking);
+
+    /**
+     * @return the number of recorded calls to <code>binaryOperation</code>.
+     */
+    long getBinaryOperationCount();
+
+    /**
+     * @return the number of recorded calls to <code>inverseOf</code>.
+     */
+    long getInverseOfCount();
+
+    /**
+     * @return the number of recorded calls to <code>exponent</code>.
+     */
+    long getExponentCount();
+
+    /**
+     * @return the total time spent in recorded calls to <code>binaryOperation</code>, in nanoseconds.
+     */
+    long getBinaryOperationNanos();
+
+    /**
+     * @return the total time spent in recorded calls to <code>inverseOf</code>, in nanoseconds.
+     */
+    long getInverseOfNanos();
+
+    /**
+     * @return the total time spent in recorded calls to <code>exponent</code>, in nanoseconds.
+     */
+    long getExponentNanos();
+
+    /**
+     * @return the latency histogram of <code>binaryOperation</code>, where bucket <code>b</code> counts the calls that
+     * took between <code>2^(b-1)</code> and <code>2^b - 1</code> nanoseconds.
+     */
+    long[] getBinaryOperationLatencyHistogram();
+
+    /**
+     * @return the latency histogram of <code>inverseOf</code>, bucketed as for <code>binaryOperation</code>.
+     */
+    long[] getInverseOfLatencyHistogram();
+
+    /**
+     * @return the latency histogram of <code>exponent</code>, bucketed as for <code>binaryOperation</code>.
+     */
+    long[] getExponentLatencyHistogram();
+
+    /**
+     * @return the deepest chain of lazily composed functions produced by <code>binaryOperation</code> while
+     * chain-depth tracking was on.
+     */
+    int getMaxChainDepth();
+
+    /**
+     * Clears every counter and histogram.
+     */
+    void reset();
+}
@@ -1,6 +1,12 @@
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
 /**
  * CSE 216 HW3
  * Nicholas Stamatakis
@@ -18,6 +24,14 @@ public class HigherOrderUtils {
      **/
     public static interface NamedBiFunction<T, U, R> extends BiFunction<T, U, R>{
         String name();
+
+        /**
+         * @return <code>true</code> if <code>apply(apply(a, b), c)</code> equals <code>apply(a, apply(b, c))</code>
+         * for all arguments, which allows {@link HigherOrderUtils#zipScan(List, List)} to evaluate in parallel.
+         */
+        default boolean isAssociative() {
+            return false;
+        }
     }
 
     /**
@@ -28,6 +42,10 @@ public class HigherOrderUtils {
             return "plus";
         }
 
+        public boolean isAssociative(){
+            return true;
+        }
+
         public Double apply(Double a, Double b){
             return a + b;
         }
@@ -57,6 +75,11 @@ public class HigherOrderUtils {
             return "mult";
         }
 
+        @Override
+        public boolean isAssociative() {
+            return true;
+        }
+
         @Override
         public Double apply(Double a, Double b) {
             return a * b;
@@ -81,6 +104,94 @@ public class HigherOrderUtils {
         }
     };
 
+    /**
+     * Creates static NamedDoubleBinaryOperator interface, the primitive counterpart of NamedBiFunction
+     **/
+    public static interface NamedDoubleBinaryOperator extends DoubleBinaryOperator {
+        String name();
+
+        /**
+         * @return <code>true</code> if the operator is associative, which allows
+         * {@link HigherOrderUtils#zipScan(double[], NamedDoubleBinaryOperator[])} to evaluate in parallel.
+         */
+        default boolean isAssociative() {
+            return false;
+        }
+    }
+
+    /**
+     * add double function
+     */
+    public static final NamedDoubleBinaryOperator addDouble = new NamedDoubleBinaryOperator() {
+        @Override
+        public String name() {
+            return "plus";
+        }
+
+        @Override
+        public boolean isAssociative() {
+            return true;
+        }
+
+        @Override
+        public double applyAsDouble(double a, double b) {
+            return a + b;
+        }
+    };
+
+    /**
+     * subtract double function
+     */
+    public static final NamedDoubleBinaryOperator subtractDouble = new NamedDoubleBinaryOperator() {
+        @Override
+        public String name() {
+            return "minus";
+        }
+
+        @Override
+        public double applyAsDouble(double a, double b) {
+            return a - b;
+        }
+    };
+
+    /**
+     * multiply double function
+     */
+    public static final NamedDoubleBinaryOperator multiplyDouble = new NamedDoubleBinaryOperator() {
+        @Override
+        public String name() {
+            return "mult";
+        }
+
+        @Override
+        public boolean isAssociative() {
+            return true;
+        }
+
+        @Override
+        public double applyAsDouble(double a, double b) {
+            return a * b;
+        }
+    };
+
+    /**
+     * divide double function
+     */
+    public static final NamedDoubleBinaryOperator divideDouble = new NamedDoubleBinaryOperator() {
+        @Override
+        public String name() {
+            return "div";
+        }
+
+        @Override
+        public double applyAsDouble(double a, double b) {
+            if (b == 0) {
+                throw new ArithmeticException("Division by zero is being attempted");
+            }
+            return a / b;
+        }
+    };
+
     /**
      * Applies a given list of bifunctions -- functions that take two arguments of a certain type
      * and produce a single instance of that type -- to a list of arguments of that type. The
@@ -119,6 +230,158 @@ public class HigherOrderUtils {
         return result;
     }
 
+    /**
+     * Primitive counterpart of {@link #zip(List, List)}: applies the given operators in sequence over an array of
+     * doubles, storing each intermediate result back into <code>args</code>, without boxing any value.
+     *
+     * @param args the arguments over which <code>ops</code> will be applied.
+     * @param ops the operators that will be applied on <code>args</code>.
+     * @return the item in the last index of <code>args</code>, which has the final result
+     * of all the operators being applied in sequence.
+     *
+     * @throws IllegalArgumentException if the number of operators and the number of arguments
+     * do not match up as required.
+     */
+    public static double zip(double[] args, DoubleBinaryOperator[] ops) {
+        if (args.length != ops.length + 1) {
+            throw new IllegalArgumentException("Number of arguments and number of bifunctions do not match.");
+        }
+        double result = args[0];
+        for (int i = 0; i < ops.length; i++) {
+            result = ops[i].applyAsDouble(result, args[i + 1]);
+            args[i + 1] = result;
+        }
+        return result;
+    }
+
+    /**
+     * Streaming counterpart of {@link #zip(List, List)}: consumes the arguments and bifunctions one at a time and
+     * keeps only the running result, so neither sequence has to be materialized and no list is modified.
+     *
+     * @param args the arguments over which <code>bifunctions</code> will be applied.
+     * @param bifunctions the bifunctions that will be applied on <code>args</code>.
+     * @param <T> the type parameter of the arguments (e.g., Integer, Double)
+     * @return the final result of all the bifunctions being applied in sequence.
+     *
+     * @throws IllegalArgumentException if the number of bifunction elements and the number of argument
+     * elements do not match up as required.
+     */
+    public static <T> T zip(Iterator<T> args, Iterator<? extends BiFunction<T, T, T>> bifunctions) {
+        return zip(args, bifunctions, result -> { });
+    }
+
+    /**
+     * Streaming counterpart of {@link #zip(List, List)} that hands each intermediate result to <code>sink</code>
+     * instead of storing it back into the arguments.
+     *
+     * @param args the arguments over which <code>bifunctions</code> will be applied.
+     * @param bifunctions the bifunctions that will be applied on <code>args</code>.
+     * @param sink receives the result of every bifunction, in order.
+     * @param <T> the type parameter of the arguments (e.g., Integer, Double)
+     * @return the final result of all the bifunctions being applied in sequence.
+     *
+     * @throws IllegalArgumentException if the number of bifunction elements and the number of argument
+     * elements do not match up as required.
+     */
+    public static <T> T zip(Iterator<T> args, Iterator<? extends BiFunction<T, T, T>> bifunctions,
+                            Consumer<? super T> sink) {
+        if (!args.hasNext()) {
+            throw new IllegalArgumentException("Number of arguments and number of bifunctions do not match.");
+        }
+        T result = args.next();
+        while (bifunctions.hasNext()) {
+            if (!args.hasNext()) {
+                throw new IllegalArgumentException("Number of arguments and number of bifunctions do not match.");
+            }
+            result = bifunctions.next().apply(result, args.next());
+            sink.accept(result);
+        }
+        if (args.hasNext()) {
+            throw new IllegalArgumentException("Number of arguments and number of bifunctions do not match.");
+        }
+        return result;
+    }
+
+    /**
+     * {@link Spliterator} form of {@link #zip(Iterator, Iterator, Consumer)}.
+     *
+     * @param args the arguments over which <code>bifunctions</code> will be applied.
+     * @param bifunctions the bifunctions that will be applied on <code>args</code>.
+     * @param sink receives the result of every bifunction, in order.
+     * @param <T> the type parameter of the arguments (e.g., Integer, Double)
+     * @return the final result of all the bifunctions being applied in sequence.
+     *
+     * @throws IllegalArgumentException if the number of bifunction elements and the number of argument
+     * elements do not match up as required.
+     */
+    public static <T> T zip(Spliterator<T> args, Spliterator<? extends BiFunction<T, T, T>> bifunctions,
+                            Consumer<? super T> sink) {
+        return zip(Spliterators.iterator(args), Spliterators.iterator(bifunctions), sink);
+    }
+
+    /**
+     * Computes the same result as {@link #zip(List, List)}, including the intermediate results stored back into
+     * <code>args</code>. When every bifunction is the same associative operator, the running results form a prefix
+     * scan that is evaluated in parallel with {@link Arrays#parallelPrefix(Object[], java.util.function.BinaryOperator)};
+     * for any other list of bifunctions this falls back to the sequential <code>zip</code>. Note that floating-point
+     * addition and multiplication are only approximately associative, so a parallel scan over doubles may differ from
+     * the sequential one in the last bits.
+     *
+     * @param args the arguments over which <code>bifunctions</code> will be applied.
+     * @param bifunctions the list of bifunctions that will be applied on <code>args</code>.
+     * @param <T> the type parameter of the arguments (e.g., Integer, Double)
+     * @return the item in the last index of <code>args</code>, which has the final result
+     * of all the bifunctions being applied in sequence.
+     *
+     * @throws IllegalArgumentException if the number of bifunction elements and the number of argument
+     * elements do not match up as required.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T zipScan(List<T> args, List<? extends NamedBiFunction<T, T, T>> bifunctions) {
+        if (args.size() != bifunctions.size() + 1) {
+            throw new IllegalArgumentException("Number of arguments and number of bifunctions do not match.");
+        }
+        NamedBiFunction<T, T, T> op = bifunctions.isEmpty() ? null : bifunctions.get(0);
+        if (op == null || !op.isAssociative() || !bifunctions.stream().allMatch(f -> f == op)) {
+            return zip(args, bifunctions);
+        }
+        T[] scan = (T[]) args.toArray();
+        Arrays.parallelPrefix(scan, op::apply);
+        for (int i = 1; i < scan.length; i++) {
+            args.set(i, scan[i]);
+        }
+        return scan[scan.length - 1];
+    }
+
+    /**
+     * Primitive counterpart of {@link #zipScan(List, List)}: when every operator is the same associative operator,
+     * the running results are computed in parallel with {@link Arrays#parallelPrefix(double[], DoubleBinaryOperator)};
+     * otherwise this is the sequential {@link #zip(double[], DoubleBinaryOperator[])}.
+     *
+     * @param args the arguments over which <code>ops</code> will be applied.
+     * @param ops the operators that will be applied on <code>args</code>.
+     * @return the item in the last index of <code>args</code>, which has the final result
+     * of all the operators being applied in sequence.
+     *
+     * @throws IllegalArgumentException if the number of operators and the number of arguments
+     * do not match up as required.
+     */
+    public static double zipScan(double[] args, NamedDoubleBinaryOperator[] ops) {
+        if (args.length != ops.length + 1) {
+            throw new IllegalArgumentException("Number of arguments and number of bifunctions do not match.");
+        }
+        if (ops.length == 0 || !ops[0].isAssociative()) {
+            return zip(args, ops);
+        }
+        for (NamedDoubleBinaryOperator op : ops) {
+            if (op != ops[0]) {
+                return zip(args, ops);
+            }
+        }
+        Arrays.parallelPrefix(args, ops[0]);
+        return args[args.length - 1];
+    }
+
     /**
      * Static method used to test zip function
      **/
@@ -141,6 +404,24 @@ public class HigherOrderUtils {
         System.out.println("Actual: " + result2);
         assert expected2.equals(result2) : "Test case 2 failed";
 
+        // Test case 3 - Documentation example without boxing
+        double[] numbers3 = {-0.5, 2d, 3d, 0d, 4d};
+        DoubleBinaryOperator[] operations3 = {addDouble, multiplyDouble, addDouble, divideDouble};
+        double expected3 = 1.125;
+        double result3 = zip(numbers3, operations3);
+        System.out.println("\nExpected: " + expected3);
+        System.out.println("Actual: " + result3);
+        assert expected3 == result3 : "Test case 3 failed";
+
+        // Test case 4 - Documentation example streamed from immutable lists
+        List<Double> numbers4 = Collections.unmodifiableList(Arrays.asList(-0.5, 2d, 3d, 0d, 4d));
+        StringBuilder steps4 = new StringBuilder();
+        Double expected4 = 1.125;
+        Double result4 = zip(numbers4.iterator(), operations1.iterator(), r -> steps4.append(r).append(' '));
+        System.out.println("\nExpected: " + expected4 + " (steps 1.5 4.5 4.5 1.125)");
+        System.out.println("Actual: " + result4 + " (steps " + steps4.toString().trim() + ")");
+        assert expected4.equals(result4) : "Test case 4 failed";
+
 //        // Test case 3 - Integer addition example
 //        List<Integer> numbers3 = Arrays.asList(1, 2, 3,7,7);
 //        BiFunction<Integer, Integer, Integer> sum = (a,b) ->a + b;
@@ -0,0 +1,104 @@
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * CSE 216 HW3
+ * Nicholas Stamatakis
+ * ID: 114140995
+ * R04
+ *
+ * Contains InstrumentedGroup, a decorator that records how often and how long group operations run
+ *
+ */
+
+public class InstrumentedGroup<T> implements Group<T> {
+    private final Group<T> group;
+    private final GroupMetrics metrics;
+    private final Map<T, Integer> chainDepths = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Wraps a group so that its operations are recorded into the given metrics. When the metrics are disabled, each
+     * operation only reads one volatile flag before delegating. When they are enabled, recording is lock-free and
+     * allocates nothing, unless chain-depth tracking has also been turned on.
+     *
+     * @param group the group to decorate
+     * @param metrics where the operations are recorded
+     */
+    public InstrumentedGroup(Group<T> group, GroupMetrics metrics) {
+        this.group = group;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Wraps a group with the metrics registered under the given name.
+     *
+     * @param group the group to decorate
+     * @param name the name under which the metrics are exposed through JMX
+     * @param <T> the type of the elements of the group
+     * @return the instrumented group.
+     */
+    public static <T> InstrumentedGroup<T> of(Group<T> group, String name) {
+        return new InstrumentedGroup<>(group, GroupMetrics.register(name));
+    }
+
+    /**
+     * @return the metrics this group records into.
+     */
+    public GroupMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Records the call and, if chain-depth tracking is on, the length of the closure chain of functions that were
+     * composed lazily rather than into a {@link Permutation}.
+     */
+    @Override
+    public T binaryOperation(T one, T other) {
+        if (!metrics.enabled) {
+            return group.binaryOperation(one, other);
+        }
+        long start = System.nanoTime();
+        T result = group.binaryOperation(one, other);
+        metrics.binaryOperation.record(System.nanoTime() - start);
+        if (metrics.chainDepthTracking && result instanceof Function && !(result instanceof Permutation)) {
+            int depth = Math.max(chainDepthOf(one), chainDepthOf(other)) + 1;
+            chainDepths.put(result, depth);
+            metrics.recordChainDepth(depth);
+        }
+        return result;
+    }
+
+    private int chainDepthOf(T t) {
+        Integer depth = chainDepths.get(t);
+        return depth == null ? 0 : depth;
+    }
+
+    @Override
+    public T identity() {
+        return group.identity();
+    }
+
+    @Override
+    public T inverseOf(T t) {
+        if (!metrics.enabled) {
+            return group.inverseOf(t);
+        }
+        long start = System.nanoTime();
+        T result = group.inverseOf(t);
+        metrics.inverseOf.record(System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public T exponent(T t, int k) {
+        if (!metrics.enabled) {
+            return group.exponent(t, k);
+        }
+        long start = System.nanoTime();
+        T result = group.exponent(t, k);
+        metrics.exponent.record(System.nanoTime() - start);
+        return result;
+    }
+}
@@ -0,0 +1,172 @@
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSE 216 HW3
+ * Nicholas Stamatakis
+ * ID: 114140995
+ * R04
+ *
+ * Contains IntGroup, the specialization of {@link Group} to groups whose elements are represented as primitive ints
+ *
+ */
+
+public interface IntGroup {
+
+    /**
+     * Performs the binary operation of this group on two elements, with the same closure, associativity and identity
+     * requirements as {@link Group#binaryOperation(Object, Object)}.
+     *
+     * @param one   the first argument of the binary operation.
+     * @param other the second argument of the binary operation.
+     * @return the result of the binary operation on <code>one</code> and <code>other</code>.
+     */
+    int binaryOperation(int one, int other);
+
+    /**
+     * @return the identity element of this group.
+     */
+    int identity();
+
+    /**
+     * @return the inverse of <code>t</code>.
+     */
+    int inverseOf(int t);
+
+    /**
+     * Exponentiation as defined by {@link Group#exponent(Object, int)}, computed by repeated squaring.
+     *
+     * @param t the group element serving as the base.
+     * @param k the integer exponent. A negative exponent applies the binary operation on the inverse of
+     *          <code>t</code> instead.
+     * @return the result of the binary operation applied <code>k</code> times on <code>t</code>.
+     */
+    default int exponent(int t, int k) {
+        long e = Math.abs((long) k);
+        int base = k < 0 ? inverseOf(t) : t;
+        int result = identity();
+        while (e > 0) {
+            if ((e & 1) == 1)
+                result = binaryOperation(base, result);
+            e >>= 1;
+            if (e > 0)
+                base = binaryOperation(base, base);
+        }
+        return result;
+    }
+
+    /**
+     * Combines two arrays of elements pairwise, so that <code>out[i]</code> is
+     * <code>binaryOperation(a[i], b[i])</code>. <code>out</code> may be the same array as <code>a</code> or
+     * <code>b</code>.
+     *
+     * @param a the first arguments
+     * @param b the second arguments
+     * @param out the array receiving the results
+     * @throws IllegalArgumentException if the arrays differ in length.
+     */
+    default void combine(int[] a, int[] b, int[] out) {
+        if (a.length != b.length || a.length != out.length) {
+            throw new IllegalArgumentException("Every array must have the same length.");
+        }
+        for (int i = 0; i < out.length; i++) {
+            out[i] = binaryOperation(a[i], b[i]);
+        }
+    }
+
+    /**
+     * Inverts an array of elements, so that <code>out[i]</code> is <code>inverseOf(in[i])</code>. <code>out</code>
+     * may be the same array as <code>in</code>.
+     *
+     * @param in the elements to invert
+     * @param out the array receiving the inverses
+     * @throws IllegalArgumentException if the arrays differ in length.
+     */
+    default void inverse(int[] in, int[] out) {
+        if (in.length != out.length) {
+            throw new IllegalArgumentException("Every array must have the same length.");
+        }
+        for (int i = 0; i < out.length; i++) {
+            out[i] = inverseOf(in[i]);
+        }
+    }
+
+    /**
+     * @return a view of this group as a {@link Group} of boxed integers, for callers written against
+     * <code>Group</code>.
+     */
+    default Group<Integer> boxed() {
+        IntGroup group = this;
+        return new Group<Integer>() {
+            @Override
+            public Integer binaryOperation(Integer one, Integer other) {
+                return group.binaryOperation(one, other);
+            }
+
+            @Override
+            public Integer identity() {
+                return group.identity();
+            }
+
+            @Override
+            public Integer inverseOf(Integer t) {
+                return group.inverseOf(t);
+            }
+
+            @Override
+            public Integer exponent(Integer t, int k) {
+                return group.exponent(t, k);
+            }
+        };
+    }
+
+    /**
+     * Represents a finite group as an <code>IntGroup</code> whose elements are the indices of the group's elements in
+     * <code>elements</code>. Every operation looks its arguments up, delegates to <code>group</code> and looks the
+     * result's index up.
+     *
+     * @param group the group to represent
+     * @param elements every element of the group, in the order that defines their indices
+     * @param <T> the type of the elements of the group
+     * @return the group of indices.
+     * @throws IllegalArgumentException if the group's identity is not one of the elements.
+     */
+    static <T> IntGroup indexed(Group<T> group, List<T> elements) {
+        Map<T, Integer> indices = new HashMap<>(elements.size() * 2);
+        for (int i = 0; i < elements.size(); i++) {
+            indices.put(elements.get(i), i);
+        }
+        return new IntGroup() {
+            private final int identity = indexOf(group.identity());
+
+            private int indexOf(T t) {
+                Integer i = indices.get(t);
+                if (i == null) {
+                    throw new IllegalArgumentException("The group is not closed over the given elements.");
+                }
+                return i;
+            }
+
+            @Override
+            public int binaryOperation(int one, int other) {
+                return indexOf(group.binaryOperation(elements.get(one), elements.get(other)));
+            }
+
+            @Override
+            public int identity() {
+                return identity;
+            }
+
+            @Override
+            public int inverseOf(int t) {
+                return indexOf(group.inverseOf(elements.get(t)));
+            }
+
+            @Override
+            public int exponent(int t, int k) {
+                return indexOf(group.exponent(elements.get(t), k));
+            }
+        };
+    }
+}
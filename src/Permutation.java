@@ -0,0 +1,485 @@
+import java.math.BigInteger;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * CSE 216 HW3
+ * Nicholas Stamatakis
+ * ID: 114140995
+ * R04
+ *
+ * Contains the Permutation value type used by BijectionGroup
+ *
+ */
+
+public final class Permutation<T> implements Function<T, T> {
+    /**
+     * An indexed, finite domain shared by every permutation built over it. Each element is assigned a position
+     * once, so that a permutation only needs to store where each position is sent.
+     *
+     * @param <T> the type of the elements in the domain
+     */
+    public static final class Domain<T> {
+        private final List<T> elements;
+        private final Map<T, Integer> indices;
+        private final int hash;
+
+        /**
+         * Indexes the given elements in iteration order.
+         *
+         * @param domain the elements of the domain
+         * @throws IllegalArgumentException if the domain is empty
+         */
+        public Domain(Collection<T> domain) {
+            if (domain.isEmpty()) {
+                throw new IllegalArgumentException("Domain set cannot be empty.");
+            }
+            this.elements = Collections.unmodifiableList(new ArrayList<>(domain));
+            this.indices = new HashMap<>(elements.size() * 2);
+            for (int i = 0; i < elements.size(); i++) {
+                if (indices.put(elements.get(i), i) != null) {
+                    throw new IllegalArgumentException("Domain elements must be distinct.");
+                }
+            }
+            this.hash = elements.hashCode();
+        }
+
+        /**
+         * @return the number of elements in this domain.
+         */
+        public int size() {
+            return elements.size();
+        }
+
+        /**
+         * @param i the position of an element
+         * @return the element at position <code>i</code>.
+         */
+        public T get(int i) {
+            return elements.get(i);
+        }
+
+        /**
+         * @param x an element of this domain
+         * @return the position of <code>x</code> in this domain.
+         * @throws IllegalArgumentException if <code>x</code> is not in this domain.
+         */
+        public int indexOf(T x) {
+            Integer i = indices.get(x);
+            if (i == null) {
+                throw new IllegalArgumentException(x + " is not in the domain.");
+            }
+            return i;
+        }
+
+        /**
+         * @return the elements of this domain, in index order.
+         */
+        public List<T> elements() {
+            return elements;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Domain)) return false;
+            Domain<?> other = (Domain<?>) o;
+            return hash == other.hash && elements.equals(other.elements);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private final Domain<T> domain;
+    private final int[] image;
+    private int hash;
+    /**
+     * One more than the rank, or 0 if it has not been computed. Only ranks that fit in an int are cached, so that
+     * racing threads can never observe a torn value.
+     */
+    private int rankPlusOne;
+
+    /**
+     * Wraps an image array without copying it. The caller must hand over ownership of <code>image</code>.
+     */
+    Permutation(Domain<T> domain, int[] image) {
+        this.domain = domain;
+        this.image = image;
+    }
+
+    /**
+     * Builds the permutation that sends the element at position <code>i</code> to the element at position
+     * <code>image[i]</code>.
+     *
+     * @param domain the domain being permuted
+     * @param image the image of every position of the domain
+     * @return the permutation described by <code>image</code>.
+     * @throws IllegalArgumentException if <code>image</code> is not a permutation of the domain positions.
+     */
+    public static <T> Permutation<T> of(Domain<T> domain, int[] image) {
+        int n = domain.size();
+        if (image.length != n) {
+            throw new IllegalArgumentException("Image must have one entry per domain element.");
+        }
+        boolean[] seen = new boolean[n];
+        for (int j : image) {
+            if (j < 0 || j >= n || seen[j]) {
+                throw new IllegalArgumentException("Image is not a bijection of the domain.");
+            }
+            seen[j] = true;
+        }
+        return new Permutation<>(domain, image.clone());
+    }
+
+    /**
+     * Evaluates <code>f</code> once on every element of the domain and stores the result as a permutation.
+     *
+     * @param domain the domain being permuted
+     * @param f a bijection of the domain
+     * @return the permutation that agrees with <code>f</code> on every element of the domain.
+     * @throws IllegalArgumentException if <code>f</code> is not a bijection of the domain.
+     */
+    public static <T> Permutation<T> tabulate(Domain<T> domain, Function<? super T, ? extends T> f) {
+        int[] image = new int[domain.size()];
+        for (int i = 0; i < image.length; i++) {
+            image[i] = domain.indexOf(f.apply(domain.get(i)));
+        }
+        return of(domain, image);
+    }
+
+    /**
+     * @param domain the domain being permuted
+     * @return the identity permutation of <code>domain</code>.
+     */
+    public static <T> Permutation<T> identity(Domain<T> domain) {
+        int[] image = new int[domain.size()];
+        for (int i = 0; i < image.length; i++) {
+            image[i] = i;
+        }
+        return new Permutation<>(domain, image);
+    }
+
+    /**
+     * @param n a non-negative integer no greater than 20
+     * @return <code>n!</code>, the number of permutations of <code>n</code> elements.
+     * @throws IllegalArgumentException if <code>n!</code> does not fit in a <code>long</code>.
+     */
+    static long factorial(int n) {
+        if (n < 0 || n > 20) {
+            throw new IllegalArgumentException("Cannot enumerate the permutations of " + n + " elements.");
+        }
+        long f = 1;
+        for (int i = 2; i <= n; i++) {
+            f *= i;
+        }
+        return f;
+    }
+
+    /**
+     * Writes the permutation of <code>0..n-1</code> with the given lexicographic rank into <code>out</code>, by
+     * reading the rank as a number in the factorial number system.
+     *
+     * @param rank the lexicographic rank, in the range <code>[0, n!)</code>
+     * @param out the array receiving the image; its length is <code>n</code>
+     */
+    static void unrank(long rank, int[] out) {
+        int n = out.length;
+        int available = (1 << n) - 1;
+        long f = factorial(n);
+        for (int i = 0; i < n; i++) {
+            f /= n - i;
+            int digit = (int) (rank / f);
+            rank %= f;
+            int mask = available;
+            for (int k = 0; k < digit; k++) {
+                mask &= mask - 1;
+            }
+            out[i] = Integer.numberOfTrailingZeros(mask);
+            available &= ~(1 << out[i]);
+        }
+    }
+
+    /**
+     * @param image the image of a permutation of <code>0..n-1</code>, with <code>n</code> no greater than 20
+     * @return the lexicographic rank of <code>image</code>, the inverse of {@link #unrank(long, int[])}.
+     */
+    static long rank(int[] image) {
+        int n = image.length;
+        int available = (1 << n) - 1;
+        long rank = 0;
+        for (int i = 0; i < n; i++) {
+            rank = rank * (n - i) + Integer.bitCount(available & ((1 << image[i]) - 1));
+            available &= ~(1 << image[i]);
+        }
+        return rank;
+    }
+
+    /**
+     * @return the domain this permutation acts on.
+     */
+    public Domain<T> domain() {
+        return domain;
+    }
+
+    /**
+     * @return the number of elements this permutation acts on.
+     */
+    public int degree() {
+        return image.length;
+    }
+
+    /**
+     * @param i the position of an element of the domain
+     * @return the position that <code>i</code> is sent to.
+     */
+    public int imageOf(int i) {
+        return image[i];
+    }
+
+    /**
+     * @return a copy of the image array of this permutation.
+     */
+    public int[] toArray() {
+        return image.clone();
+    }
+
+    /**
+     * @return the position of this permutation in the enumeration order of
+     * {@link BijectionGroup#bijectionStream(Set)}.
+     */
+    public long rank() {
+        int r = rankPlusOne;
+        if (r != 0) {
+            return r - 1;
+        }
+        long rank = rank(image);
+        if (rank < Integer.MAX_VALUE) {
+            rankPlusOne = (int) rank + 1;
+        }
+        return rank;
+    }
+
+    /**
+     * Composes two permutations of the same domain into a new table, so the cost of applying the result does not
+     * depend on how many compositions produced its operands.
+     *
+     * @param other the permutation applied first
+     * @return the permutation that applies <code>other</code> and then this permutation.
+     * @throws IllegalArgumentException if the permutations act on different domains.
+     */
+    public Permutation<T> compose(Permutation<T> other) {
+        if (!domain.equals(other.domain)) {
+            throw new IllegalArgumentException("Permutations act on different domains.");
+        }
+        int[] composed = new int[image.length];
+        for (int i = 0; i < image.length; i++) {
+            composed[i] = image[other.image[i]];
+        }
+        return new Permutation<>(domain, composed);
+    }
+
+    /**
+     * Computes the inverse in a single pass over the image, allocating only the resulting array.
+     *
+     * @return the permutation that undoes this permutation.
+     */
+    public Permutation<T> inverse() {
+        int[] inverse = new int[image.length];
+        for (int i = 0; i < image.length; i++) {
+            inverse[image[i]] = i;
+        }
+        return new Permutation<>(domain, inverse);
+    }
+
+    /**
+     * Raises this permutation to the given power by rotating each of its cycles, which takes <code>O(n)</code>
+     * time regardless of the exponent.
+     *
+     * @param k the exponent; a negative exponent raises the inverse instead
+     * @return this permutation composed with itself <code>k</code> times.
+     */
+    public Permutation<T> power(long k) {
+        int n = image.length;
+        int[] powered = new int[n];
+        int[] cycle = new int[n];
+        boolean[] visited = new boolean[n];
+        for (int start = 0; start < n; start++) {
+            if (visited[start]) continue;
+            int length = 0;
+            for (int i = start; !visited[i]; i = image[i]) {
+                visited[i] = true;
+                cycle[length++] = i;
+            }
+            int shift = (int) Math.floorMod(k, (long) length);
+            for (int j = 0; j < length; j++) {
+                int target = j + shift;
+                powered[cycle[j]] = cycle[target < length ? target : target - length];
+            }
+        }
+        return new Permutation<>(domain, powered);
+    }
+
+    /**
+     * Walks every cycle of this permutation once.
+     *
+     * @return an array whose entry <code>l</code> is the number of cycles of length <code>l</code>.
+     */
+    private int[] cycleCounts() {
+        int n = image.length;
+        int[] counts = new int[n + 1];
+        boolean[] visited = new boolean[n];
+        for (int start = 0; start < n; start++) {
+            if (visited[start]) continue;
+            int length = 0;
+            for (int i = start; !visited[i]; i = image[i]) {
+                visited[i] = true;
+                length++;
+            }
+            counts[length]++;
+        }
+        return counts;
+    }
+
+    /**
+     * @return the cycles of this permutation, fixed points included, each starting from its first element in domain
+     * order.
+     */
+    public List<List<T>> cycles() {
+        int n = image.length;
+        List<List<T>> cycles = new ArrayList<>();
+        boolean[] visited = new boolean[n];
+        for (int start = 0; start < n; start++) {
+            if (visited[start]) continue;
+            List<T> cycle = new ArrayList<>();
+            for (int i = start; !visited[i]; i = image[i]) {
+                visited[i] = true;
+                cycle.add(domain.get(i));
+            }
+            cycles.add(cycle);
+        }
+        return cycles;
+    }
+
+    /**
+     * @return the lengths of the cycles of this permutation in non-increasing order, fixed points included. Two
+     * permutations of the same domain are conjugate exactly when their cycle types are equal.
+     */
+    public int[] cycleType() {
+        int[] counts = cycleCounts();
+        int cycles = 0;
+        for (int count : counts) {
+            cycles += count;
+        }
+        int[] type = new int[cycles];
+        int k = 0;
+        for (int length = counts.length - 1; length > 0; length--) {
+            for (int c = 0; c < counts[length]; c++) {
+                type[k++] = length;
+            }
+        }
+        return type;
+    }
+
+    /**
+     * @return the order of this permutation, which is the least common multiple of its cycle lengths.
+     * @throws ArithmeticException if the order does not fit in a <code>long</code>.
+     */
+    public long order() {
+        int[] counts = cycleCounts();
+        long order = 1;
+        for (int length = 2; length < counts.length; length++) {
+            if (counts[length] > 0) {
+                long a = order, b = length;
+                while (b != 0) {
+                    long r = a % b;
+                    a = b;
+                    b = r;
+                }
+                order = Math.multiplyExact(order / a, length);
+            }
+        }
+        return order;
+    }
+
+    /**
+     * @return <code>1</code> if this permutation is even and <code>-1</code> if it is odd.
+     */
+    public int sign() {
+        int[] counts = cycleCounts();
+        int cycles = 0;
+        for (int count : counts) {
+            cycles += count;
+        }
+        return (image.length - cycles) % 2 == 0 ? 1 : -1;
+    }
+
+    /**
+     * @param other a permutation of the same domain
+     * @return <code>true</code> if some permutation <code>s</code> satisfies <code>s p s^-1 = other</code>.
+     */
+    public boolean isConjugateTo(Permutation<T> other) {
+        return domain.equals(other.domain) && Arrays.equals(cycleCounts(), other.cycleCounts());
+    }
+
+    /**
+     * @return the number of permutations of the domain that are conjugate to this one, which is <code>n!</code>
+     * divided by the product of <code>l^m * m!</code> over every cycle length <code>l</code> occurring
+     * <code>m</code> times.
+     */
+    public BigInteger conjugacyClassSize() {
+        int[] counts = cycleCounts();
+        BigInteger size = BigInteger.ONE;
+        for (int i = 2; i <= image.length; i++) {
+            size = size.multiply(BigInteger.valueOf(i));
+        }
+        for (int length = 1; length < counts.length; length++) {
+            for (int m = 1; m <= counts[length]; m++) {
+                size = size.divide(BigInteger.valueOf((long) length * m));
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Applies this permutation to an element of its domain in constant time.
+     *
+     * @param x an element of the domain
+     * @return the element that <code>x</code> is sent to.
+     * @throws IllegalArgumentException if <code>x</code> is not in the domain.
+     */
+    @Override
+    public T apply(T x) {
+        return domain.get(image[domain.indexOf(x)]);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Permutation)) return false;
+        Permutation<?> other = (Permutation<?>) o;
+        return Arrays.equals(image, other.image) && domain.equals(other.domain);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = 31 * domain.hashCode() + Arrays.hashCode(image);
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < image.length; i++) {
+            if (i > 0) sb.append("; ");
+            sb.append(domain.get(i)).append(" --> ").append(domain.get(image[i]));
+        }
+        return sb.append('}').toString();
+    }
+}
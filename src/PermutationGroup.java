@@ -0,0 +1,284 @@
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * CSE 216 HW3
+ * Nicholas Stamatakis
+ * ID: 114140995
+ * R04
+ *
+ * Contains PermutationGroup, a subgroup of the bijections of a domain described by a base and strong generating set
+ *
+ */
+
+public class PermutationGroup<T> implements Group<Permutation<T>> {
+    /**
+     * One point of the base, together with the generators that fix every earlier base point and the orbit of the
+     * point under them. <code>transversal[p]</code> is a group element sending the base point to <code>p</code>, or
+     * <code>null</code> if <code>p</code> is not in the orbit.
+     */
+    private static final class Level {
+        final int point;
+        final List<int[]> generators = new ArrayList<>();
+        int[][] transversal;
+        int[][] inverseTransversal;
+        int[] orbit;
+        int orbitSize;
+
+        Level(int point) {
+            this.point = point;
+        }
+    }
+
+    private final Permutation.Domain<T> domain;
+    private final int n;
+    private final List<Level> levels = new ArrayList<>();
+
+    /**
+     * Builds the subgroup generated by the given permutations with the Schreier-Sims algorithm, which runs in time
+     * polynomial in the size of the domain instead of enumerating the group.
+     *
+     * @param domain the domain the generators act on
+     * @param generators the generators of the subgroup
+     * @throws IllegalArgumentException if a generator acts on a different domain.
+     */
+    public PermutationGroup(Permutation.Domain<T> domain, Collection<Permutation<T>> generators) {
+        this.domain = domain;
+        this.n = domain.size();
+        List<int[]> strong = new ArrayList<>();
+        for (Permutation<T> g : generators) {
+            if (!g.domain().equals(domain)) {
+                throw new IllegalArgumentException("Generators must act on the given domain.");
+            }
+            int[] image = g.toArray();
+            if (!isIdentity(image)) {
+                strong.add(image);
+            }
+        }
+        for (int[] g : strong) {
+            if (fixesBase(g, levels.size())) {
+                levels.add(new Level(firstMovedPoint(g)));
+            }
+        }
+        for (int l = 0; l < levels.size(); l++) {
+            for (int[] g : strong) {
+                if (fixesBase(g, l)) {
+                    levels.get(l).generators.add(g);
+                }
+            }
+            computeOrbit(levels.get(l));
+        }
+        schreierSims();
+    }
+
+    /**
+     * Checks every Schreier generator of every level, from the deepest level up. A generator that does not sift to
+     * the identity is added to the levels below, and checking resumes at the deepest level it reached.
+     */
+    private void schreierSims() {
+        int i = levels.size() - 1;
+        while (i >= 0) {
+            int restart = -1;
+            Level level = levels.get(i);
+            search:
+            for (int o = 0; o < level.orbitSize; o++) {
+                int p = level.orbit[o];
+                for (int[] s : level.generators) {
+                    int[] u = level.transversal[p];
+                    int[] back = level.inverseTransversal[s[p]];
+                    int[] y = new int[n];
+                    for (int x = 0; x < n; x++) {
+                        y[x] = back[s[u[x]]];
+                    }
+                    int j = strip(y);
+                    if (j < levels.size() || !isIdentity(y)) {
+                        if (j == levels.size()) {
+                            levels.add(new Level(firstMovedPoint(y)));
+                        }
+                        for (int l = i + 1; l <= j; l++) {
+                            levels.get(l).generators.add(y);
+                            computeOrbit(levels.get(l));
+                        }
+                        restart = j;
+                        break search;
+                    }
+                }
+            }
+            i = restart >= 0 ? restart : i - 1;
+        }
+    }
+
+    private void computeOrbit(Level level) {
+        level.transversal = new int[n][];
+        level.inverseTransversal = new int[n][];
+        level.orbit = new int[n];
+        int[] identity = identityImage();
+        level.transversal[level.point] = identity;
+        level.inverseTransversal[level.point] = identity;
+        level.orbit[0] = level.point;
+        level.orbitSize = 1;
+        for (int o = 0; o < level.orbitSize; o++) {
+            int p = level.orbit[o];
+            int[] u = level.transversal[p];
+            for (int[] s : level.generators) {
+                int q = s[p];
+                if (level.transversal[q] == null) {
+                    int[] t = new int[n];
+                    int[] inverse = new int[n];
+                    for (int x = 0; x < n; x++) {
+                        t[x] = s[u[x]];
+                        inverse[t[x]] = x;
+                    }
+                    level.transversal[q] = t;
+                    level.inverseTransversal[q] = inverse;
+                    level.orbit[level.orbitSize++] = q;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sifts <code>h</code> in place through the levels, dividing out the transversal element of each level.
+     *
+     * @return the index of the level where sifting stopped, or the number of levels if it went through all of them.
+     */
+    private int strip(int[] h) {
+        int[] scratch = new int[n];
+        for (int j = 0; j < levels.size(); j++) {
+            Level level = levels.get(j);
+            int[] inverse = level.inverseTransversal[h[level.point]];
+            if (inverse == null) {
+                return j;
+            }
+            for (int x = 0; x < n; x++) {
+                scratch[x] = inverse[h[x]];
+            }
+            System.arraycopy(scratch, 0, h, 0, n);
+        }
+        return levels.size();
+    }
+
+    private boolean fixesBase(int[] g, int count) {
+        for (int l = 0; l < count; l++) {
+            int b = levels.get(l).point;
+            if (g[b] != b) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int firstMovedPoint(int[] g) {
+        for (int x = 0; x < g.length; x++) {
+            if (g[x] != x) {
+                return x;
+            }
+        }
+        throw new IllegalArgumentException("The identity moves no point.");
+    }
+
+    private static boolean isIdentity(int[] g) {
+        for (int x = 0; x < g.length; x++) {
+            if (g[x] != x) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int[] identityImage() {
+        int[] identity = new int[n];
+        for (int x = 0; x < n; x++) {
+            identity[x] = x;
+        }
+        return identity;
+    }
+
+    /**
+     * @return the number of elements of this group, which is the product of the orbit sizes along the base.
+     */
+    public BigInteger order() {
+        BigInteger order = BigInteger.ONE;
+        for (Level level : levels) {
+            order = order.multiply(BigInteger.valueOf(level.orbitSize));
+        }
+        return order;
+    }
+
+    /**
+     * Tests membership by sifting, in <code>O(n)</code> time per base point.
+     *
+     * @param g a permutation of the domain
+     * @return <code>true</code> if <code>g</code> is an element of this group.
+     */
+    public boolean contains(Permutation<T> g) {
+        if (!g.domain().equals(domain)) {
+            return false;
+        }
+        int[] h = g.toArray();
+        return strip(h) == levels.size() && isIdentity(h);
+    }
+
+    /**
+     * Draws a uniformly random element as a product of one uniformly random transversal element per base point.
+     *
+     * @param random the source of randomness
+     * @return a uniformly random element of this group.
+     */
+    public Permutation<T> randomElement(Random random) {
+        int[] g = identityImage();
+        int[] scratch = new int[n];
+        for (Level level : levels) {
+            int[] u = level.transversal[level.orbit[random.nextInt(level.orbitSize)]];
+            for (int x = 0; x < n; x++) {
+                scratch[x] = g[u[x]];
+            }
+            System.arraycopy(scratch, 0, g, 0, n);
+        }
+        return new Permutation<>(domain, g);
+    }
+
+    /**
+     * @return the base of this group: no element other than the identity fixes every base point.
+     */
+    public List<T> base() {
+        List<T> base = new ArrayList<>();
+        for (Level level : levels) {
+            base.add(domain.get(level.point));
+        }
+        return base;
+    }
+
+    /**
+     * @return a strong generating set of this group relative to its base.
+     */
+    public List<Permutation<T>> strongGenerators() {
+        Set<Permutation<T>> strong = new LinkedHashSet<>();
+        for (Level level : levels) {
+            for (int[] g : level.generators) {
+                strong.add(new Permutation<>(domain, g.clone()));
+            }
+        }
+        return new ArrayList<>(strong);
+    }
+
+    @Override
+    public Permutation<T> binaryOperation(Permutation<T> one, Permutation<T> other) {
+        return one.compose(other);
+    }
+
+    @Override
+    public Permutation<T> identity() {
+        return Permutation.identity(domain);
+    }
+
+    @Override
+    public Permutation<T> inverseOf(Permutation<T> t) {
+        return t.inverse();
+    }
+
+    @Override
+    public Permutation<T> exponent(Permutation<T> t, int k) {
+        return t.power(k);
+    }
+}
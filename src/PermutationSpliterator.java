@@ -0,0 +1,111 @@
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * CSE 216 HW3
+ * Nicholas Stamatakis
+ * ID: 114140995
+ * R04
+ *
+ * Contains the lazy enumerator behind BijectionGroup.bijectionStream
+ *
+ */
+
+class PermutationSpliterator<T> implements Spliterator<Permutation<T>> {
+    private final Permutation.Domain<T> domain;
+    private long origin;
+    private final long fence;
+    private int[] current;
+
+    /**
+     * Creates an enumerator over every permutation of <code>domain</code>, in lexicographic order of the image
+     * arrays, starting from the identity.
+     *
+     * @param domain the domain to permute
+     */
+    PermutationSpliterator(Permutation.Domain<T> domain) {
+        this(domain, 0, Permutation.factorial(domain.size()), null);
+    }
+
+    /**
+     * Creates an enumerator over the permutations whose lexicographic ranks lie in <code>[origin, fence)</code>.
+     * The first permutation is unranked lazily, so splitting never touches the permutations themselves.
+     *
+     * @param current the image of rank <code>origin</code>, or <code>null</code> if not yet unranked
+     */
+    private PermutationSpliterator(Permutation.Domain<T> domain, long origin, long fence, int[] current) {
+        this.domain = domain;
+        this.origin = origin;
+        this.fence = fence;
+        this.current = current;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Permutation<T>> action) {
+        if (origin >= fence) {
+            return false;
+        }
+        if (current == null) {
+            current = new int[domain.size()];
+            Permutation.unrank(origin, current);
+        }
+        action.accept(new Permutation<>(domain, current.clone()));
+        if (++origin < fence) {
+            nextPermutation(current);
+        }
+        return true;
+    }
+
+    /**
+     * Rearranges <code>a</code> into the next permutation in lexicographic order.
+     *
+     * @param a the image array to advance; must not be the last permutation
+     */
+    static void nextPermutation(int[] a) {
+        int i = a.length - 2;
+        while (a[i] > a[i + 1]) {
+            i--;
+        }
+        int j = a.length - 1;
+        while (a[j] < a[i]) {
+            j--;
+        }
+        swap(a, i, j);
+        for (int lo = i + 1, hi = a.length - 1; lo < hi; lo++, hi--) {
+            swap(a, lo, hi);
+        }
+    }
+
+    private static void swap(int[] a, int i, int j) {
+        int temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+
+    /**
+     * Splits off the lower half of the remaining rank range. The returned prefix keeps any permutation already
+     * unranked, and this spliterator restarts at the midpoint through unranking.
+     */
+    @Override
+    public Spliterator<Permutation<T>> trySplit() {
+        long lo = origin;
+        long mid = (lo + fence) >>> 1;
+        if (mid <= lo) {
+            return null;
+        }
+        Spliterator<Permutation<T>> prefix = new PermutationSpliterator<>(domain, lo, mid, current);
+        origin = mid;
+        current = null;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - origin;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | DISTINCT | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+}
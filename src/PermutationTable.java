@@ -0,0 +1,359 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * CSE 216 HW3
+ * Nicholas Stamatakis
+ * ID: 114140995
+ * R04
+ *
+ * Contains PermutationTable, a memory-mapped file of every permutation of 0..n-1 in rank order, with optional inverse
+ * and product tables
+ *
+ */
+
+public final class PermutationTable {
+    /*
+     * File layout, big-endian:
+     *   header (32 bytes): magic "PRMT", version (short), degree (byte), flags (byte), count (long),
+     *                      bytes per image (int), reserved
+     *   images:   count entries of bytesPerImage bytes, two positions per byte, high nibble first
+     *   inverses: count int ranks, if FLAG_INVERSES is set
+     *   products: count * count int ranks, row-major by left operand, if FLAG_PRODUCTS is set
+     */
+    private static final int MAGIC = 0x50524D54;
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int FLAG_INVERSES = 1;
+    private static final int FLAG_PRODUCTS = 2;
+
+    /**
+     * The largest degree whose ranks fit in an <code>int</code>.
+     */
+    public static final int MAX_DEGREE = 12;
+
+    /**
+     * The largest degree for which a product table can be written.
+     */
+    public static final int MAX_PRODUCT_DEGREE = 7;
+
+    /**
+     * The largest mapping made at once; every region is split into segments holding whole entries.
+     */
+    private static final int SEGMENT_SIZE = 1 << 30;
+
+    /**
+     * A part of the file made of fixed-size entries, mapped in as many segments as needed.
+     */
+    private static final class Region {
+        private final MappedByteBuffer[] segments;
+        private final long entriesPerSegment;
+        private final int entrySize;
+
+        Region(FileChannel channel, long offset, long entries, int entrySize) throws IOException {
+            this.entrySize = entrySize;
+            this.entriesPerSegment = SEGMENT_SIZE / entrySize;
+            int count = (int) ((entries + entriesPerSegment - 1) / entriesPerSegment);
+            this.segments = new MappedByteBuffer[count];
+            for (int s = 0; s < count; s++) {
+                long first = s * entriesPerSegment;
+                long length = Math.min(entriesPerSegment, entries - first) * entrySize;
+                segments[s] = channel.map(FileChannel.MapMode.READ_ONLY, offset + first * entrySize, length);
+            }
+        }
+
+        byte getByte(long entry, int index) {
+            return segments[(int) (entry / entriesPerSegment)].get((int) (entry % entriesPerSegment) * entrySize + index);
+        }
+
+        int getInt(long entry) {
+            return segments[(int) (entry / entriesPerSegment)].getInt((int) (entry % entriesPerSegment) * entrySize);
+        }
+    }
+
+    private final int degree;
+    private final long count;
+    private final int bytesPerImage;
+    private final Region images;
+    private final Region inverses;
+    private final Region products;
+
+    private PermutationTable(int degree, long count, int bytesPerImage, Region images, Region inverses,
+                             Region products) {
+        this.degree = degree;
+        this.count = count;
+        this.bytesPerImage = bytesPerImage;
+        this.images = images;
+        this.inverses = inverses;
+        this.products = products;
+    }
+
+    /**
+     * Writes the table of every permutation of <code>0..n-1</code> in the rank order of
+     * {@link BijectionGroup#bijectionStream(java.util.Set)}.
+     *
+     * @param file the file to create or overwrite
+     * @param n the degree of the permutations, at most {@link #MAX_DEGREE}
+     * @param withInverses whether to store the rank of the inverse of every permutation
+     * @param withProducts whether to store the rank of every product, for degrees up to
+     *                     {@link #MAX_PRODUCT_DEGREE}
+     * @throws IOException if the file cannot be written.
+     */
+    public static void write(Path file, int n, boolean withInverses, boolean withProducts) throws IOException {
+        if (n < 1 || n > MAX_DEGREE) {
+            throw new IllegalArgumentException("Degree must be between 1 and " + MAX_DEGREE + ".");
+        }
+        if (withProducts && n > MAX_PRODUCT_DEGREE) {
+            throw new IllegalArgumentException("Product tables are limited to degree " + MAX_PRODUCT_DEGREE + ".");
+        }
+        long count = Permutation.factorial(n);
+        int bytesPerImage = (n + 1) / 2;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+            buffer.putInt(MAGIC).putShort(VERSION).put((byte) n)
+                    .put((byte) ((withInverses ? FLAG_INVERSES : 0) | (withProducts ? FLAG_PRODUCTS : 0)))
+                    .putLong(count).putInt(bytesPerImage);
+            buffer.position(HEADER_SIZE);
+
+            int[] image = new int[n];
+            Permutation.unrank(0, image);
+            for (long r = 0; r < count; r++) {
+                if (buffer.remaining() < bytesPerImage) {
+                    drain(channel, buffer);
+                }
+                for (int i = 0; i < n; i += 2) {
+                    buffer.put((byte) (image[i] << 4 | (i + 1 < n ? image[i + 1] : 0)));
+                }
+                if (r + 1 < count) {
+                    PermutationSpliterator.nextPermutation(image);
+                }
+            }
+
+            int[] inverse = new int[n];
+            if (withInverses) {
+                Permutation.unrank(0, image);
+                for (long r = 0; r < count; r++) {
+                    for (int i = 0; i < n; i++) {
+                        inverse[image[i]] = i;
+                    }
+                    if (buffer.remaining() < Integer.BYTES) {
+                        drain(channel, buffer);
+                    }
+                    buffer.putInt((int) Permutation.rank(inverse));
+                    if (r + 1 < count) {
+                        PermutationSpliterator.nextPermutation(image);
+                    }
+                }
+            }
+
+            if (withProducts) {
+                int[][] all = new int[(int) count][n];
+                Permutation.unrank(0, all[0]);
+                for (int r = 1; r < count; r++) {
+                    all[r] = all[r - 1].clone();
+                    PermutationSpliterator.nextPermutation(all[r]);
+                }
+                int[] product = new int[n];
+                for (int[] a : all) {
+                    for (int[] b : all) {
+                        for (int i = 0; i < n; i++) {
+                            product[i] = a[b[i]];
+                        }
+                        if (buffer.remaining() < Integer.BYTES) {
+                            drain(channel, buffer);
+                        }
+                        buffer.putInt((int) Permutation.rank(product));
+                    }
+                }
+            }
+            drain(channel, buffer);
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Maps a table written by {@link #write(Path, int, boolean, boolean)}. Nothing is deserialized: every lookup
+     * reads the mapped file directly, so opening costs the same for any degree and processes mapping the same file
+     * share it through the page cache.
+     *
+     * @param file the table file
+     * @return the mapped table.
+     * @throws IOException if the file cannot be read or is not a permutation table.
+     */
+    public static PermutationTable open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // keep reading until the header is complete or the file ends
+            }
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC || header.getShort() != VERSION) {
+                throw new IOException(file + " is not a permutation table.");
+            }
+            int degree = header.get();
+            int flags = header.get();
+            long count = header.getLong();
+            int bytesPerImage = header.getInt();
+            if (degree < 1 || degree > MAX_DEGREE || count != Permutation.factorial(degree)
+                    || bytesPerImage != (degree + 1) / 2) {
+                throw new IOException(file + " has an inconsistent header.");
+            }
+            long offset = HEADER_SIZE;
+            Region images = new Region(channel, offset, count, bytesPerImage);
+            offset += count * bytesPerImage;
+            Region inverses = null;
+            if ((flags & FLAG_INVERSES) != 0) {
+                inverses = new Region(channel, offset, count, Integer.BYTES);
+                offset += count * Integer.BYTES;
+            }
+            Region products = null;
+            if ((flags & FLAG_PRODUCTS) != 0) {
+                products = new Region(channel, offset, count * count, Integer.BYTES);
+            }
+            return new PermutationTable(degree, count, bytesPerImage, images, inverses, products);
+        }
+    }
+
+    /**
+     * @return the number of points the permutations act on.
+     */
+    public int degree() {
+        return degree;
+    }
+
+    /**
+     * @return the number of permutations in the table.
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * @return <code>true</code> if the table stores the rank of every inverse.
+     */
+    public boolean hasInverses() {
+        return inverses != null;
+    }
+
+    /**
+     * @return <code>true</code> if the table stores the rank of every product.
+     */
+    public boolean hasProducts() {
+        return products != null;
+    }
+
+    private void checkRank(long rank) {
+        if (rank < 0 || rank >= count) {
+            throw new IllegalArgumentException("Index is out of Bounds");
+        }
+    }
+
+    /**
+     * @param rank the rank of a permutation
+     * @param point a point in <code>0..degree-1</code>
+     * @return the point that the permutation with the given rank sends <code>point</code> to.
+     */
+    public int apply(long rank, int point) {
+        checkRank(rank);
+        if (point < 0 || point >= degree) {
+            throw new IllegalArgumentException(point + " is not in the domain.");
+        }
+        int packed = images.getByte(rank, point >> 1) & 0xFF;
+        return (point & 1) == 0 ? packed >>> 4 : packed & 0xF;
+    }
+
+    /**
+     * Copies the image of a permutation into <code>out</code>.
+     *
+     * @param rank the rank of a permutation
+     * @param out an array of length <code>degree</code>
+     */
+    public void imageOf(long rank, int[] out) {
+        checkRank(rank);
+        for (int b = 0; b < bytesPerImage; b++) {
+            int packed = images.getByte(rank, b) & 0xFF;
+            out[2 * b] = packed >>> 4;
+            if (2 * b + 1 < degree) {
+                out[2 * b + 1] = packed & 0xF;
+            }
+        }
+    }
+
+    /**
+     * @param image the image of a permutation of <code>0..degree-1</code>
+     * @return the rank of the permutation, which is its position in the table.
+     */
+    public long rankOf(int[] image) {
+        if (image.length != degree) {
+            throw new IllegalArgumentException("Image must have one entry per domain element.");
+        }
+        return Permutation.rank(image);
+    }
+
+    /**
+     * @param rank the rank of a permutation
+     * @return the rank of its inverse, read from the inverse table when the file has one.
+     */
+    public long inverse(long rank) {
+        checkRank(rank);
+        if (inverses != null) {
+            return inverses.getInt(rank);
+        }
+        int[] image = new int[degree];
+        int[] inverse = new int[degree];
+        imageOf(rank, image);
+        for (int i = 0; i < degree; i++) {
+            inverse[image[i]] = i;
+        }
+        return Permutation.rank(inverse);
+    }
+
+    /**
+     * @param one the rank of the permutation applied second
+     * @param other the rank of the permutation applied first
+     * @return the rank of the composition of the two permutations, as in {@link Permutation#compose(Permutation)},
+     * read from the product table when the file has one.
+     */
+    public long product(long one, long other) {
+        checkRank(one);
+        checkRank(other);
+        if (products != null) {
+            return products.getInt(one * count + other);
+        }
+        int[] a = new int[degree];
+        int[] b = new int[degree];
+        imageOf(one, a);
+        imageOf(other, b);
+        for (int i = 0; i < degree; i++) {
+            b[i] = a[b[i]];
+        }
+        return Permutation.rank(b);
+    }
+
+    /**
+     * @param domain a domain with <code>degree</code> elements
+     * @param rank the rank of a permutation
+     * @param <T> the type of the elements in the domain
+     * @return the permutation with the given rank, acting on <code>domain</code>.
+     */
+    public <T> Permutation<T> permutation(Permutation.Domain<T> domain, long rank) {
+        if (domain.size() != degree) {
+            throw new IllegalArgumentException("Domain must have " + degree + " elements.");
+        }
+        int[] image = new int[degree];
+        imageOf(rank, image);
+        return new Permutation<>(domain, image);
+    }
+}
@@ -0,0 +1,233 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * CSE 216 HW3
+ * Nicholas Stamatakis
+ * ID: 114140995
+ * R04
+ *
+ * Contains RunningMin, an incrementally maintained counterpart of SimpleUtils.least
+ *
+ */
+
+public class RunningMin<T extends Comparable<T>> {
+    /**
+     * An element of the heap, remembering when it was added so that ties can be broken by insertion order.
+     */
+    private static final class Entry<T> {
+        final T item;
+        final long sequence;
+
+        Entry(T item, long sequence) {
+            this.item = item;
+            this.sequence = sequence;
+        }
+    }
+
+    private final PriorityQueue<Entry<T>> heap;
+    private final Map<T, Integer> live = new HashMap<>();
+    private final Map<T, Integer> removed = new HashMap<>();
+    private long sequence;
+    private int size;
+    private int dead;
+
+    /**
+     * Creates an empty running minimum.
+     *
+     * @param from_start a <code>boolean</code> flag that decides how ties are broken.
+     * If <code>true</code>, the element added earlier is the least, otherwise the element added later is.
+     */
+    public RunningMin(boolean from_start) {
+        this.heap = new PriorityQueue<>((a, b) -> {
+            int c = a.item.compareTo(b.item);
+            if (c != 0) {
+                return c;
+            }
+            return from_start ? Long.compare(a.sequence, b.sequence) : Long.compare(b.sequence, a.sequence);
+        });
+    }
+
+    /**
+     * Adds an element in <code>O(log n)</code> time. Null elements are ignored, as in
+     * {@link SimpleUtils#least(java.util.Collection, boolean)}.
+     *
+     * @param item the element to add
+     */
+    public void add(T item) {
+        if (item == null) {
+            return;
+        }
+        heap.add(new Entry<>(item, sequence++));
+        live.merge(item, 1, Integer::sum);
+        size++;
+    }
+
+    /**
+     * Removes one occurrence of an element. The heap entry is only marked as removed and is discarded once it
+     * reaches the top, so removal does not search the heap. Once marked entries outnumber the live ones, the heap is
+     * rebuilt from the live entries, so its size stays proportional to the number of elements rather than to the
+     * number of updates, at an amortized <code>O(log n)</code> cost per removal.
+     *
+     * @param item the element to remove
+     * @return <code>true</code> if the element was present.
+     */
+    public boolean remove(T item) {
+        if (item == null || !live.containsKey(item)) {
+            return false;
+        }
+        live.computeIfPresent(item, (k, count) -> count == 1 ? null : count - 1);
+        removed.merge(item, 1, Integer::sum);
+        size--;
+        dead++;
+        if (dead > size) {
+            compact();
+        }
+        return true;
+    }
+
+    /**
+     * Discards every marked entry. Entries are polled in heap order, so the same occurrences are discarded as if each
+     * had reached the top, and they are added back in that order, which keeps every insertion at the bottom.
+     */
+    private void compact() {
+        List<Entry<T>> kept = new ArrayList<>(size);
+        while (!heap.isEmpty()) {
+            Entry<T> entry = heap.poll();
+            if (!discard(entry.item)) {
+                kept.add(entry);
+            }
+        }
+        heap.addAll(kept);
+    }
+
+    /**
+     * @return <code>true</code> if an occurrence of <code>item</code> was marked as removed, consuming the mark.
+     */
+    private boolean discard(T item) {
+        Integer pending = removed.get(item);
+        if (pending == null) {
+            return false;
+        }
+        if (pending == 1) {
+            removed.remove(item);
+        } else {
+            removed.put(item, pending - 1);
+        }
+        dead--;
+        return true;
+    }
+
+    /**
+     * Answers in constant time unless removed elements have to be discarded from the top of the heap first.
+     *
+     * @return the least element added and not removed, where ties are broken by insertion order according to
+     * <code>from_start</code>, or <code>null</code> if there is none.
+     */
+    public T least() {
+        while (!heap.isEmpty()) {
+            T top = heap.peek().item;
+            if (!discard(top)) {
+                return top;
+            }
+            heap.poll();
+        }
+        return null;
+    }
+
+    /**
+     * @return the number of elements added and not removed.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return <code>true</code> if there are no elements.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * A comparable value with a tag that tells equal values apart, so ties can be checked.
+     */
+    private static final class Tagged implements Comparable<Tagged> {
+        final int value;
+        final int tag;
+
+        Tagged(int value, int tag) {
+            this.value = value;
+            this.tag = tag;
+        }
+
+        @Override
+        public int compareTo(Tagged other) {
+            return Integer.compare(value, other.value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Tagged && ((Tagged) o).value == value && ((Tagged) o).tag == tag;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(value, tag);
+        }
+    }
+
+    /**
+     * Static method used to test RunningMin against SimpleUtils.least
+     **/
+    public static void testRunningMin() {
+        // Test case 1 - Random adds and removes, ties broken both ways
+        Random random = new Random(216);
+        for (boolean from_start : new boolean[]{true, false}) {
+            RunningMin<Tagged> running = new RunningMin<>(from_start);
+            List<Tagged> expected = new ArrayList<>();
+            for (int step = 0; step < 20000; step++) {
+                if (expected.isEmpty() || random.nextInt(3) > 0) {
+                    Tagged item = new Tagged(random.nextInt(50), step);
+                    running.add(item);
+                    expected.add(item);
+                } else {
+                    Tagged item = expected.get(random.nextInt(expected.size()));
+                    assert running.remove(item) : "Test case 1 failed to remove " + item.value;
+                    expected.remove(item);
+                }
+                assert running.size() == expected.size() : "Test case 1 size failed";
+                assert Objects.equals(running.least(), SimpleUtils.least(expected, from_start))
+                        : "Test case 1 failed at step " + step;
+            }
+        }
+        System.out.println("\nRunningMin matches SimpleUtils.least over random adds and removes");
+
+        // Test case 2 - Leaderboard updates beneath a fixed minimum keep the heap bounded
+        RunningMin<Integer> leaderboard = new RunningMin<>(true);
+        leaderboard.add(0);
+        leaderboard.add(1);
+        for (int i = 1; i <= 1000000; i++) {
+            leaderboard.remove(i);
+            leaderboard.add(i + 1);
+        }
+        System.out.println("Expected: 0, at most 4 heap entries");
+        System.out.println("Actual: " + leaderboard.least() + ", " + leaderboard.heap.size() + " heap entries");
+        assert leaderboard.least() == 0 && leaderboard.size() == 2 : "Test case 2 failed";
+        assert leaderboard.heap.size() <= 2 * leaderboard.size() && leaderboard.removed.size() <= leaderboard.size()
+                : "Test case 2 failed to compact";
+    }
+
+    /**
+     * Main Method - call static testing method
+     * @param args
+     */
+    public static void main(String[] args) {
+        testRunningMin();
+    }
+}
@@ -1,5 +1,13 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * CSE 216 HW3
@@ -27,10 +35,221 @@ public class SimpleUtils {
     public static <T extends Comparable<T>> T least(Collection<T> items, boolean from_start){
         return items.stream()
                 .filter(Objects::nonNull)
-                .reduce((head,tail) -> head.compareTo(tail) == 0 ? (from_start ? head : tail) : (head.compareTo(tail) < 0 ? head : tail))
+                .reduce((head,tail) -> {
+                    int c = head.compareTo(tail);
+                    return c == 0 ? (from_start ? head : tail) : (c < 0 ? head : tail);
+                })
                 .orElse(null);
     }
 
+    /**
+     * Parallel counterpart of {@link #least(Collection, boolean)} for large collections. Every candidate carries its
+     * position in the iteration order of <code>items</code>, so ties are broken exactly as in <code>least</code>
+     * regardless of how the work is split across cores.
+     *
+     * @param items: the given collection of elements
+     * @param from_start a <code>boolean</code> flag that decides how ties are broken.
+     * If <code>true</code>, the element encountered earlier in the
+     * iteration is returned, otherwise the later element is returned.
+     * @param <T>: the type parameter of the collection (i.e., the items are all of type T).
+     * @return the least element in <code>items</code>, where ties are
+     * broken based on <code>from_start</code>.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable<T>> T parallelLeast(Collection<T> items, boolean from_start){
+        Object[] array = items.toArray();
+        int least = IntStream.range(0, array.length).parallel()
+                .filter(i -> array[i] != null)
+                .reduce((i, j) -> {
+                    int c = ((T) array[i]).compareTo((T) array[j]);
+                    return c == 0 ? (from_start ? Math.min(i, j) : Math.max(i, j)) : (c < 0 ? i : j);
+                })
+                .orElse(-1);
+        return least < 0 ? null : (T) array[least];
+    }
+
+    /**
+     * Finds the position of the least element of an array of <code>int</code>s without boxing.
+     *
+     * @param items the given array of elements
+     * @param from_start a <code>boolean</code> flag that decides how ties are broken.
+     * If <code>true</code>, the earliest position of the least value is returned, otherwise the latest one.
+     * @return the position of the least element in <code>items</code>, or <code>-1</code> if it is empty.
+     */
+    public static int leastIndex(int[] items, boolean from_start){
+        int best = -1;
+        for (int i = 0; i < items.length; i++) {
+            if (best < 0 || items[i] < items[best] || (!from_start && items[i] == items[best])) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Finds the position of the least element of an array of <code>long</code>s without boxing.
+     *
+     * @param items the given array of elements
+     * @param from_start a <code>boolean</code> flag that decides how ties are broken.
+     * If <code>true</code>, the earliest position of the least value is returned, otherwise the latest one.
+     * @return the position of the least element in <code>items</code>, or <code>-1</code> if it is empty.
+     */
+    public static int leastIndex(long[] items, boolean from_start){
+        int best = -1;
+        for (int i = 0; i < items.length; i++) {
+            if (best < 0 || items[i] < items[best] || (!from_start && items[i] == items[best])) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Finds the position of the least element of an array of <code>double</code>s without boxing. Values are ordered
+     * as by {@link Double#compareTo(Double)}, so <code>-0.0</code> is less than <code>0.0</code> and
+     * <code>NaN</code> is greater than every other value.
+     *
+     * @param items the given array of elements
+     * @param from_start a <code>boolean</code> flag that decides how ties are broken.
+     * If <code>true</code>, the earliest position of the least value is returned, otherwise the latest one.
+     * @return the position of the least element in <code>items</code>, or <code>-1</code> if it is empty.
+     */
+    public static int leastIndex(double[] items, boolean from_start){
+        int best = -1;
+        for (int i = 0; i < items.length; i++) {
+            int c = best < 0 ? -1 : Double.compare(items[i], items[best]);
+            if (c < 0 || (!from_start && c == 0)) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Finds the <code>k</code> least elements of a collection in a single pass, keeping at most <code>k</code>
+     * candidates in a bounded heap. Null elements are ignored, and ties are broken as in
+     * {@link #least(Collection, boolean)}, so <code>leastK(items, 1, from_start)</code> holds exactly
+     * <code>least(items, from_start)</code>.
+     *
+     * @param items: the given collection of elements
+     * @param k the number of elements to select
+     * @param from_start a <code>boolean</code> flag that decides how ties are broken.
+     * If <code>true</code>, elements encountered earlier in the
+     * iteration are preferred, otherwise later elements are preferred.
+     * @param <T>: the type parameter of the collection (i.e., the items are all of type T).
+     * @return the <code>k</code> least elements of <code>items</code> (or all of its non-null elements, if there are
+     * fewer), from least to greatest.
+     */
+    public static <T extends Comparable<T>> List<T> leastK(Collection<T> items, int k, boolean from_start){
+        return leastK(items, k, from_start, false);
+    }
+
+    /**
+     * Parallel counterpart of {@link #leastK(Collection, int, boolean)} for large collections. Each core selects
+     * the <code>k</code> least elements of its share of the input, and the partial selections are then merged, so the
+     * input is still read only once.
+     *
+     * @param items: the given collection of elements
+     * @param k the number of elements to select
+     * @param from_start a <code>boolean</code> flag that decides how ties are broken.
+     * If <code>true</code>, elements encountered earlier in the
+     * iteration are preferred, otherwise later elements are preferred.
+     * @param <T>: the type parameter of the collection (i.e., the items are all of type T).
+     * @return the <code>k</code> least elements of <code>items</code> (or all of its non-null elements, if there are
+     * fewer), from least to greatest.
+     */
+    public static <T extends Comparable<T>> List<T> parallelLeastK(Collection<T> items, int k, boolean from_start){
+        return leastK(items, k, from_start, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> List<T> leastK(Collection<T> items, int k, boolean from_start,
+                                                             boolean parallel){
+        if (k < 0) {
+            throw new IllegalArgumentException("k cannot be negative.");
+        }
+        Object[] array = items.toArray();
+        IntStream positions = IntStream.range(0, array.length);
+        if (parallel) {
+            positions = positions.parallel();
+        }
+        BoundedHeap<T> heap = positions
+                .filter(i -> array[i] != null)
+                .collect(() -> new BoundedHeap<>(array, k, from_start), BoundedHeap::offer, BoundedHeap::merge);
+        T[] least = (T[]) new Comparable<?>[heap.size];
+        for (int i = least.length - 1; i >= 0; i--) {
+            least[i] = (T) array[heap.poll()];
+        }
+        return Arrays.asList(least);
+    }
+
+    /**
+     * A max-heap of positions into an array that keeps only the <code>k</code> least elements offered to it, ordered
+     * by value and then by position according to the tie-breaking rule.
+     */
+    private static final class BoundedHeap<T extends Comparable<T>> {
+        private final Object[] array;
+        private final boolean from_start;
+        private final int[] heap;
+        private int size;
+
+        BoundedHeap(Object[] array, int k, boolean from_start) {
+            this.array = array;
+            this.from_start = from_start;
+            this.heap = new int[Math.min(k, array.length)];
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean less(int i, int j) {
+            int c = ((T) array[i]).compareTo((T) array[j]);
+            return c != 0 ? c < 0 : (from_start ? i < j : i > j);
+        }
+
+        void offer(int i) {
+            if (size < heap.length) {
+                int child = size++;
+                while (child > 0 && less(heap[(child - 1) / 2], i)) {
+                    heap[child] = heap[(child - 1) / 2];
+                    child = (child - 1) / 2;
+                }
+                heap[child] = i;
+            } else if (size > 0 && less(i, heap[0])) {
+                siftDown(i);
+            }
+        }
+
+        int poll() {
+            int top = heap[0];
+            int last = heap[--size];
+            if (size > 0) {
+                siftDown(last);
+            }
+            return top;
+        }
+
+        private void siftDown(int i) {
+            int parent = 0;
+            while (2 * parent + 1 < size) {
+                int child = 2 * parent + 1;
+                if (child + 1 < size && less(heap[child], heap[child + 1])) {
+                    child++;
+                }
+                if (!less(i, heap[child])) {
+                    break;
+                }
+                heap[parent] = heap[child];
+                parent = child;
+            }
+            heap[parent] = i;
+        }
+
+        void merge(BoundedHeap<T> other) {
+            for (int j = 0; j < other.size; j++) {
+                offer(other.heap[j]);
+            }
+        }
+    }
+
 //    public static void leastTest(){
 //        // Test with a list of Basketball Objects
 //        Basketball ball1 = new Basketball("Spalding", 4,4);
@@ -96,6 +315,188 @@ public class SimpleUtils {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Parallel counterpart of {@link #flatten(Map)}. The entries are first copied into an array sized by the map
+     * (for a <code>ConcurrentHashMap</code>, a weakly consistent snapshot), and the strings are then formatted in
+     * parallel into a presized array. The result keeps the iteration order of the map, so a <code>SortedMap</code> or
+     * <code>NavigableMap</code> is flattened in key order.
+     *
+     * @param aMap the specified input map.
+     * @param <K> the type parameter of keys in <code>aMap</code>.
+     * @param <V> the type parameter of values in <code>aMap</code>.
+     * @return the flattened list representation of <code>aMap</code>.
+     */
+    public static <K,V> List<String> parallelFlatten(Map<K,V> aMap){
+        return parallelFlatten(entriesOf(aMap));
+    }
+
+    /**
+     * Parallel counterpart of {@link #flatten(Map)} that lists the entries in a deterministic key order, whatever
+     * the iteration order of the map is.
+     *
+     * @param aMap the specified input map.
+     * @param keyOrder the order in which keys appear in the result, or <code>null</code> for the natural ordering of
+     *                 the keys, as with <code>SortedMap.comparator()</code>. Under the natural ordering a
+     *                 <code>null</code> key, which <code>flatten</code> accepts, is listed first.
+     * @param <K> the type parameter of keys in <code>aMap</code>.
+     * @param <V> the type parameter of values in <code>aMap</code>.
+     * @return the flattened list representation of <code>aMap</code>, sorted by key.
+     * @throws ClassCastException if <code>keyOrder</code> is <code>null</code> and the keys are not mutually
+     * comparable.
+     */
+    public static <K,V> List<String> parallelFlatten(Map<K,V> aMap, Comparator<? super K> keyOrder){
+        Map.Entry<K,V>[] entries = entriesOf(aMap);
+        if (!(aMap instanceof SortedMap && Objects.equals(((SortedMap<K,V>) aMap).comparator(), keyOrder))) {
+            Arrays.parallelSort(entries, Map.Entry.comparingByKey(keyOrder != null ? keyOrder : Comparator.nullsFirst(naturalOrder())));
+        }
+        return parallelFlatten(entries);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> Comparator<K> naturalOrder(){
+        return (a, b) -> ((Comparable<? super K>) a).compareTo(b);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K,V> Map.Entry<K,V>[] entriesOf(Map<K,V> aMap){
+        return aMap.entrySet().toArray((Map.Entry<K,V>[]) new Map.Entry<?,?>[aMap.size()]);
+    }
+
+    private static <K,V> List<String> parallelFlatten(Map.Entry<K,V>[] entries){
+        String[] flattened = new String[entries.length];
+        Arrays.parallelSetAll(flattened, i -> entries[i].getKey() + " -> " + entries[i].getValue());
+        return Arrays.asList(flattened);
+    }
+
+    /**
+     * Writes the flattened representation of a map straight to <code>out</code>, one "key -> value" entry per line,
+     * without building a <code>String</code> per entry. Character sequences are appended as they are, and
+     * <code>Integer</code> and <code>Long</code> keys and values are formatted into a reused buffer; any other key
+     * or value is appended through its <code>toString</code>.
+     *
+     * @param aMap the specified input map.
+     * @param out the destination of the flattened entries.
+     * @param <K> the type parameter of keys in <code>aMap</code>.
+     * @param <V> the type parameter of values in <code>aMap</code>.
+     * @throws IOException if <code>out</code> fails to append.
+     */
+    public static <K,V> void flattenTo(Map<K,V> aMap, Appendable out) throws IOException {
+        char[] digits = new char[20];
+        for (Map.Entry<K,V> entry : aMap.entrySet()) {
+            appendObject(out, entry.getKey(), digits);
+            out.append(" -> ");
+            appendObject(out, entry.getValue(), digits);
+            out.append('\n');
+        }
+    }
+
+    /**
+     * Writes the flattened representation of a map to a channel as UTF-8, in the format of
+     * {@link #flattenTo(Map, Appendable)}. Characters are encoded through one reused buffer, so memory use does not
+     * depend on the size of the map.
+     *
+     * @param aMap the specified input map.
+     * @param channel the destination of the flattened entries.
+     * @param <K> the type parameter of keys in <code>aMap</code>.
+     * @param <V> the type parameter of values in <code>aMap</code>.
+     * @throws IOException if writing to <code>channel</code> fails.
+     */
+    public static <K,V> void flattenTo(Map<K,V> aMap, WritableByteChannel channel) throws IOException {
+        ChannelAppender out = new ChannelAppender(channel);
+        flattenTo(aMap, out);
+        out.finish();
+    }
+
+    private static void appendObject(Appendable out, Object o, char[] digits) throws IOException {
+        if (o instanceof CharSequence) {
+            out.append((CharSequence) o);
+        } else if (o instanceof Integer || o instanceof Long) {
+            long value = ((Number) o).longValue();
+            int start = digits.length;
+            boolean negative = value < 0;
+            do {
+                digits[--start] = (char) ('0' + Math.abs(value % 10));
+                value /= 10;
+            } while (value != 0);
+            if (negative) {
+                digits[--start] = '-';
+            }
+            for (int i = start; i < digits.length; i++) {
+                out.append(digits[i]);
+            }
+        } else {
+            out.append(String.valueOf(o));
+        }
+    }
+
+    /**
+     * An <code>Appendable</code> that encodes characters into a reused byte buffer and writes full buffers to a
+     * channel.
+     */
+    private static final class ChannelAppender implements Appendable {
+        private final WritableByteChannel channel;
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        private final CharBuffer chars = CharBuffer.allocate(8192);
+        private final ByteBuffer bytes = ByteBuffer.allocate(8192 * 3);
+
+        ChannelAppender(WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq) throws IOException {
+            return csq == null ? append("null") : append(csq, 0, csq.length());
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) throws IOException {
+            if (csq == null) {
+                return append("null", start, end);
+            }
+            for (int i = start; i < end; i++) {
+                append(csq.charAt(i));
+            }
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            if (!chars.hasRemaining()) {
+                encode(false);
+            }
+            chars.put(c);
+            return this;
+        }
+
+        private void encode(boolean endOfInput) throws IOException {
+            chars.flip();
+            CoderResult result;
+            while ((result = encoder.encode(chars, bytes, endOfInput)).isOverflow()) {
+                write();
+            }
+            if (result.isError()) {
+                result.throwException();
+            }
+            chars.compact();
+        }
+
+        private void write() throws IOException {
+            bytes.flip();
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            bytes.clear();
+        }
+
+        void finish() throws IOException {
+            encode(true);
+            while (encoder.flush(bytes).isOverflow()) {
+                write();
+            }
+            write();
+        }
+    }
+
 //    public static void flattenTest() {
 //        // Test case 1: empty map
 //        Map<String, Integer> emptyMap = Collections.emptyMap();
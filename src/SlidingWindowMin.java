@@ -0,0 +1,127 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * CSE 216 HW3
+ * Nicholas Stamatakis
+ * ID: 114140995
+ * R04
+ *
+ * Contains SlidingWindowMin, which answers SimpleUtils.least over the most recent elements of a sequence
+ *
+ */
+
+public class SlidingWindowMin<T extends Comparable<T>> {
+    private final int window;
+    private final boolean from_start;
+    private final Object[] items;
+    private final long[] positions;
+    private int head;
+    private int length;
+    private long added;
+
+    /**
+     * Creates an empty sliding window.
+     *
+     * @param window the number of most recent elements the window covers
+     * @param from_start a <code>boolean</code> flag that decides how ties are broken.
+     * If <code>true</code>, the element added earlier is the least, otherwise the element added later is.
+     */
+    public SlidingWindowMin(int window, boolean from_start) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("Window size must be positive.");
+        }
+        this.window = window;
+        this.from_start = from_start;
+        this.items = new Object[window];
+        this.positions = new long[window];
+    }
+
+    /**
+     * Adds an element to the window, evicting the oldest one once the window is full. Candidates are kept in a
+     * monotonic deque, so each element is pushed and popped at most once and the amortized cost is constant. A null
+     * element takes up a slot of the window but is never the least, as in
+     * {@link SimpleUtils#least(java.util.Collection, boolean)}.
+     *
+     * @param item the element to add
+     */
+    @SuppressWarnings("unchecked")
+    public void add(T item) {
+        long position = added++;
+        if (length > 0 && positions[head] <= position - window) {
+            items[head] = null;
+            head = (head + 1) % window;
+            length--;
+        }
+        if (item == null) {
+            return;
+        }
+        while (length > 0) {
+            int tail = (head + length - 1) % window;
+            int c = ((T) items[tail]).compareTo(item);
+            if (c < 0 || (c == 0 && from_start)) {
+                break;
+            }
+            items[tail] = null;
+            length--;
+        }
+        int tail = (head + length) % window;
+        items[tail] = item;
+        positions[tail] = position;
+        length++;
+    }
+
+    /**
+     * @return the least element among the most recent <code>window</code> elements, where ties are broken according
+     * to <code>from_start</code>, or <code>null</code> if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public T least() {
+        return length == 0 ? null : (T) items[head];
+    }
+
+    /**
+     * Static method used to test SlidingWindowMin against SimpleUtils.least over the last elements added
+     **/
+    public static void testSlidingWindowMin() {
+        // Test case 1 - Random sequences with duplicates and nulls, several window sizes, ties broken both ways
+        Random random = new Random(216);
+        for (int window : new int[]{1, 2, 7, 64}) {
+            for (boolean from_start : new boolean[]{true, false}) {
+                SlidingWindowMin<String> sliding = new SlidingWindowMin<>(window, from_start);
+                List<String> added = new ArrayList<>();
+                for (int step = 0; step < 5000; step++) {
+                    // equal strings are distinct objects, so ties are checked by identity
+                    String item = random.nextInt(10) == 0 ? null : new String("v" + random.nextInt(20));
+                    sliding.add(item);
+                    added.add(item);
+                    List<String> recent = added.subList(Math.max(0, added.size() - window), added.size());
+                    String expected = SimpleUtils.least(recent, from_start);
+                    assert sliding.least() == expected
+                            : "Test case 1 failed with window " + window + " at step " + step;
+                }
+            }
+        }
+        System.out.println("\nSlidingWindowMin matches SimpleUtils.least over the most recent elements");
+
+        // Test case 2 - Documentation-style example
+        SlidingWindowMin<Integer> sliding = new SlidingWindowMin<>(3, true);
+        for (int x : new int[]{5, 3, 8, 9, 7}) {
+            sliding.add(x);
+        }
+        Integer expected2 = 7;
+        System.out.println("Expected: " + expected2);
+        System.out.println("Actual: " + sliding.least());
+        assert Objects.equals(expected2, sliding.least()) : "Test case 2 failed";
+    }
+
+    /**
+     * Main Method - call static testing method
+     * @param args
+     */
+    public static void main(String[] args) {
+        testSlidingWindowMin();
+    }
+}
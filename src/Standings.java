@@ -0,0 +1,176 @@
+import java.util.Arrays;
+
+/**
+ * CSE 216 HW3
+ * Nicholas Stamatakis
+ * ID: 114140995
+ * R04
+ *
+ * Contains Standings, a columnar store of Basketball records with precomputed sort keys
+ *
+ */
+
+public class Standings {
+    private String[] teamNames = new String[16];
+    private int[] wins = new int[16];
+    private int[] losses = new int[16];
+    private long[] keys = new long[16];
+    private int size;
+
+    private int[] order;
+    private long[] sortedKeys;
+
+    /**
+     * Adds a team to the standings.
+     *
+     * @param teamName the name of the team
+     * @param wins the number of wins, not negative
+     * @param losses the number of losses, not negative
+     * @return the id of the team, which is its position in insertion order.
+     */
+    public int add(String teamName, int wins, int losses) {
+        checkRecord(wins, losses);
+        if (size == keys.length) {
+            int capacity = size * 2;
+            teamNames = Arrays.copyOf(teamNames, capacity);
+            this.wins = Arrays.copyOf(this.wins, capacity);
+            this.losses = Arrays.copyOf(this.losses, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+        }
+        teamNames[size] = teamName;
+        set(size, wins, losses);
+        return size++;
+    }
+
+    /**
+     * Adds a copy of a team's record to the standings.
+     *
+     * @param team the team to add
+     * @return the id of the team, which is its position in insertion order.
+     */
+    public int add(Basketball team) {
+        return add(team.teamName, team.wins, team.losses);
+    }
+
+    /**
+     * Replaces the record of a team and recomputes its sort key once.
+     *
+     * @param id the id of the team
+     * @param wins the number of wins, not negative
+     * @param losses the number of losses, not negative
+     */
+    public void update(int id, int wins, int losses) {
+        checkId(id);
+        checkRecord(wins, losses);
+        set(id, wins, losses);
+    }
+
+    private void set(int id, int wins, int losses) {
+        this.wins[id] = wins;
+        this.losses[id] = losses;
+        keys[id] = Basketball.winKey(wins, losses);
+        order = null;
+        sortedKeys = null;
+    }
+
+    /**
+     * @param id the id of the team
+     */
+    public void recordWin(int id) {
+        checkId(id);
+        update(id, wins[id] + 1, losses[id]);
+    }
+
+    /**
+     * @param id the id of the team
+     */
+    public void recordLoss(int id) {
+        checkId(id);
+        update(id, wins[id], losses[id] + 1);
+    }
+
+    private void checkId(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("No team with id " + id);
+        }
+    }
+
+    private static void checkRecord(int wins, int losses) {
+        if (wins < 0 || losses < 0) {
+            throw new IllegalArgumentException("Wins and losses cannot be negative.");
+        }
+    }
+
+    /**
+     * @return the number of teams in the standings.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param id the id of the team
+     * @return the current record of the team.
+     */
+    public Basketball team(int id) {
+        checkId(id);
+        return new Basketball(teamNames[id], wins[id], losses[id]);
+    }
+
+    /**
+     * Sorts the teams the way {@link Basketball#compareTo(Basketball)} does, by win percentage in descending order,
+     * with ties kept in insertion order. The sort is a merge sort over team ids comparing the precomputed primitive
+     * keys, and its result is cached until the next update.
+     *
+     * @return the ids of the teams, best first.
+     */
+    public int[] sortedIds() {
+        if (order == null) {
+            int[] ids = new int[size];
+            for (int i = 0; i < size; i++) {
+                ids[i] = i;
+            }
+            int[] buffer = new int[size];
+            for (int width = 1; width < size; width *= 2) {
+                for (int lo = 0; lo < size - width; lo += 2 * width) {
+                    int mid = lo + width;
+                    int hi = Math.min(lo + 2 * width, size);
+                    int i = lo, j = mid, k = lo;
+                    while (i < mid && j < hi) {
+                        buffer[k++] = keys[ids[j]] > keys[ids[i]] ? ids[j++] : ids[i++];
+                    }
+                    while (i < mid) buffer[k++] = ids[i++];
+                    while (j < hi) buffer[k++] = ids[j++];
+                    System.arraycopy(buffer, lo, ids, lo, hi - lo);
+                }
+            }
+            order = ids;
+        }
+        return order.clone();
+    }
+
+    /**
+     * Ranks a team among the standings, where teams with the same win percentage share a rank.
+     *
+     * @param id the id of the team
+     * @return one more than the number of teams with a strictly greater win percentage.
+     */
+    public int rankOf(int id) {
+        checkId(id);
+        if (sortedKeys == null) {
+            sortedKeys = Arrays.copyOf(keys, size);
+            Arrays.sort(sortedKeys);
+        }
+        long key = keys[id];
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sortedKeys[mid] <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return size - lo + 1;
+    }
+}
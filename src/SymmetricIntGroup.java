@@ -0,0 +1,183 @@
+/**
+ * CSE 216 HW3
+ * Nicholas Stamatakis
+ * ID: 114140995
+ * R04
+ *
+ * Contains SymmetricIntGroup, the bijections of 0..n-1 represented by their ranks
+ *
+ */
+
+public final class SymmetricIntGroup implements IntGroup {
+    /**
+     * The largest supported degree, whose group order still fits in an <code>int</code>.
+     */
+    public static final int MAX_DEGREE = 12;
+
+    private final int degree;
+    private final int order;
+    private final int[] table;
+    private final int[] inverses;
+    private final ThreadLocal<int[][]> scratch;
+
+    /**
+     * Creates the symmetric group of degree <code>n</code>, whose elements are the ranks <code>0..n!-1</code> in the
+     * order of {@link BijectionGroup#bijectionStream(java.util.Set)}, and whose binary operation is composition as in
+     * {@link Permutation#compose(Permutation)}. If the group has at most <code>maxTableSize</code> elements, its
+     * Cayley table and inverses are computed up front and every operation is an array read. The table takes
+     * <code>4 * (n!)^2</code> bytes, so like {@link CachedGroup} it is never built with more than
+     * {@link CachedGroup#MAX_TABLE_ENTRIES} entries, which stops at degree 7 (about 100 MB). Otherwise every operation
+     * unranks its arguments, composes them and ranks the result in per-thread scratch arrays.
+     *
+     * @param n the degree, at most {@link #MAX_DEGREE}
+     * @param maxTableSize the largest group order for which the Cayley table is precomputed, subject to the cap above
+     * @throws IllegalArgumentException if <code>n</code> is not between 1 and {@link #MAX_DEGREE}.
+     */
+    public SymmetricIntGroup(int n, int maxTableSize) {
+        if (n < 1 || n > MAX_DEGREE) {
+            throw new IllegalArgumentException("Degree must be between 1 and " + MAX_DEGREE + ".");
+        }
+        this.degree = n;
+        this.order = (int) Permutation.factorial(n);
+        this.scratch = ThreadLocal.withInitial(() -> new int[3][degree]);
+        if (order <= maxTableSize && (long) order * order <= CachedGroup.MAX_TABLE_ENTRIES) {
+            int[][] images = new int[order][n];
+            Permutation.unrank(0, images[0]);
+            for (int r = 1; r < order; r++) {
+                images[r] = images[r - 1].clone();
+                PermutationSpliterator.nextPermutation(images[r]);
+            }
+            int[] product = new int[n];
+            this.table = new int[order * order];
+            this.inverses = new int[order];
+            for (int i = 0; i < order; i++) {
+                int[] a = images[i];
+                for (int j = 0; j < order; j++) {
+                    int[] b = images[j];
+                    for (int x = 0; x < n; x++) {
+                        product[x] = a[b[x]];
+                    }
+                    table[i * order + j] = (int) Permutation.rank(product);
+                }
+                for (int x = 0; x < n; x++) {
+                    product[a[x]] = x;
+                }
+                inverses[i] = (int) Permutation.rank(product);
+            }
+        } else {
+            this.table = null;
+            this.inverses = null;
+        }
+    }
+
+    /**
+     * @return the number of points the permutations act on.
+     */
+    public int degree() {
+        return degree;
+    }
+
+    /**
+     * @return the number of elements of this group.
+     */
+    public int order() {
+        return order;
+    }
+
+    /**
+     * @return <code>true</code> if the whole Cayley table of the group was precomputed.
+     */
+    public boolean isTabulated() {
+        return table != null;
+    }
+
+    private int check(int t) {
+        if (t < 0 || t >= order) {
+            throw new IllegalArgumentException(t + " is not in the group.");
+        }
+        return t;
+    }
+
+    @Override
+    public int binaryOperation(int one, int other) {
+        check(one);
+        check(other);
+        if (table != null) {
+            return table[one * order + other];
+        }
+        return compose(one, other, scratch.get());
+    }
+
+    private int compose(int one, int other, int[][] work) {
+        int[] a = work[0];
+        int[] b = work[1];
+        Permutation.unrank(one, a);
+        Permutation.unrank(other, b);
+        for (int x = 0; x < degree; x++) {
+            b[x] = a[b[x]];
+        }
+        return (int) Permutation.rank(b);
+    }
+
+    @Override
+    public int identity() {
+        return 0;
+    }
+
+    @Override
+    public int inverseOf(int t) {
+        check(t);
+        if (inverses != null) {
+            return inverses[t];
+        }
+        return invert(t, scratch.get());
+    }
+
+    private int invert(int t, int[][] work) {
+        int[] a = work[0];
+        int[] inverse = work[2];
+        Permutation.unrank(t, a);
+        for (int x = 0; x < degree; x++) {
+            inverse[a[x]] = x;
+        }
+        return (int) Permutation.rank(inverse);
+    }
+
+    /**
+     * Composes the arrays pairwise. With a Cayley table this is one gather per element; otherwise the scratch arrays
+     * are fetched once for the whole batch.
+     */
+    @Override
+    public void combine(int[] a, int[] b, int[] out) {
+        if (a.length != b.length || a.length != out.length) {
+            throw new IllegalArgumentException("Every array must have the same length.");
+        }
+        if (table != null) {
+            for (int i = 0; i < out.length; i++) {
+                out[i] = table[check(a[i]) * order + check(b[i])];
+            }
+        } else {
+            int[][] work = scratch.get();
+            for (int i = 0; i < out.length; i++) {
+                out[i] = compose(check(a[i]), check(b[i]), work);
+            }
+        }
+    }
+
+    @Override
+    public void inverse(int[] in, int[] out) {
+        if (in.length != out.length) {
+            throw new IllegalArgumentException("Every array must have the same length.");
+        }
+        if (inverses != null) {
+            for (int i = 0; i < out.length; i++) {
+                out[i] = inverses[check(in[i])];
+            }
+        } else {
+            int[][] work = scratch.get();
+            for (int i = 0; i < out.length; i++) {
+                out[i] = invert(check(in[i]), work);
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiFunction;
+import java.util.function.DoubleBinaryOperator;
+
+/**
+ * CSE 216 HW3
+ * Nicholas Stamatakis
+ * ID: 114140995
+ * R04
+ *
+ * Contains ZipProgram, a compiled sequence of operators that zips many argument rows at once
+ *
+ */
+
+public final class ZipProgram {
+    /**
+     * Batches with fewer rows than this are evaluated on the calling thread.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    private final DoubleBinaryOperator[] ops;
+
+    private ZipProgram(DoubleBinaryOperator[] ops) {
+        this.ops = ops;
+    }
+
+    /**
+     * Compiles a sequence of operators into a program.
+     *
+     * @param ops the operators, in the order <code>zip</code> would apply them.
+     * @return the compiled program.
+     */
+    public static ZipProgram compile(DoubleBinaryOperator... ops) {
+        return new ZipProgram(ops.clone());
+    }
+
+    /**
+     * Compiles a list of boxed bifunctions into a program. The built-in operators of {@link HigherOrderUtils} are
+     * replaced by their primitive counterparts, and any other bifunction is called through an unboxing adapter.
+     *
+     * @param bifunctions the bifunctions, in the order <code>zip</code> would apply them.
+     * @return the compiled program.
+     */
+    public static ZipProgram compile(List<? extends BiFunction<Double, Double, Double>> bifunctions) {
+        DoubleBinaryOperator[] ops = new DoubleBinaryOperator[bifunctions.size()];
+        for (int i = 0; i < ops.length; i++) {
+            BiFunction<Double, Double, Double> f = bifunctions.get(i);
+            if (f == HigherOrderUtils.add) {
+                ops[i] = HigherOrderUtils.addDouble;
+            } else if (f == HigherOrderUtils.subtract) {
+                ops[i] = HigherOrderUtils.subtractDouble;
+            } else if (f == HigherOrderUtils.multiply) {
+                ops[i] = HigherOrderUtils.multiplyDouble;
+            } else if (f == HigherOrderUtils.divide) {
+                ops[i] = HigherOrderUtils.divideDouble;
+            } else {
+                ops[i] = f::apply;
+            }
+        }
+        return new ZipProgram(ops);
+    }
+
+    /**
+     * @return the number of arguments in each row, which is one more than the number of operators.
+     */
+    public int arity() {
+        return ops.length + 1;
+    }
+
+    /**
+     * Evaluates this program on a columnar batch, where <code>columns[k][r]</code> is argument <code>k</code> of row
+     * <code>r</code>. Each operator is applied to a whole column before moving on to the next one. Unlike
+     * <code>zip</code>, the intermediate results are not written back into the arguments.
+     *
+     * @param columns one array per argument, all of the same length.
+     * @return the final result of every row.
+     * @throws IllegalArgumentException if the number of columns does not match the arity or the columns differ in
+     * length.
+     */
+    public double[] evaluateColumns(double[][] columns) {
+        if (columns.length != arity()) {
+            throw new IllegalArgumentException("Number of arguments and number of bifunctions do not match.");
+        }
+        int rows = columns[0].length;
+        for (double[] column : columns) {
+            if (column.length != rows) {
+                throw new IllegalArgumentException("Every column must have the same number of rows.");
+            }
+        }
+        double[] results = new double[rows];
+        run(new Batch(rows) {
+            @Override
+            void evaluate(int from, int to) {
+                System.arraycopy(columns[0], from, results, from, to - from);
+                for (int k = 0; k < ops.length; k++) {
+                    DoubleBinaryOperator op = ops[k];
+                    double[] column = columns[k + 1];
+                    for (int r = from; r < to; r++) {
+                        results[r] = op.applyAsDouble(results[r], column[r]);
+                    }
+                }
+            }
+        });
+        return results;
+    }
+
+    /**
+     * Evaluates this program on a row-major batch stored in one flat array, where row <code>r</code> starts at
+     * <code>r * stride</code> and holds <code>arity()</code> consecutive arguments. The intermediate results are not
+     * written back into the arguments.
+     *
+     * @param flat the arguments of every row.
+     * @param stride the distance between the starts of consecutive rows; at least <code>arity()</code>.
+     * @return the final result of every row.
+     * @throws IllegalArgumentException if the stride is smaller than the arity or does not divide the array.
+     */
+    public double[] evaluateRows(double[] flat, int stride) {
+        if (stride < arity() || flat.length % stride != 0) {
+            throw new IllegalArgumentException("Number of arguments and number of bifunctions do not match.");
+        }
+        double[] results = new double[flat.length / stride];
+        run(new Batch(results.length) {
+            @Override
+            void evaluate(int from, int to) {
+                for (int r = from; r < to; r++) {
+                    int base = r * stride;
+                    double result = flat[base];
+                    for (int k = 0; k < ops.length; k++) {
+                        result = ops[k].applyAsDouble(result, flat[base + k + 1]);
+                    }
+                    results[r] = result;
+                }
+            }
+        });
+        return results;
+    }
+
+    private static void run(Batch batch) {
+        if (batch.rows < PARALLEL_THRESHOLD) {
+            batch.evaluate(0, batch.rows);
+        } else {
+            ForkJoinPool.commonPool().invoke(batch.task(0, batch.rows));
+        }
+    }
+
+    /**
+     * A range of rows to evaluate, split in halves across the fork-join pool until ranges are small enough.
+     */
+    private abstract static class Batch {
+        final int rows;
+
+        Batch(int rows) {
+            this.rows = rows;
+        }
+
+        abstract void evaluate(int from, int to);
+
+        RecursiveAction task(int from, int to) {
+            return new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    if (to - from <= PARALLEL_THRESHOLD) {
+                        evaluate(from, to);
+                    } else {
+                        int mid = (from + to) >>> 1;
+                        invokeAll(task(from, mid), task(mid, to));
+                    }
+                }
+            };
+        }
+    }
+}